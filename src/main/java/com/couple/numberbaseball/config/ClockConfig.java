@@ -0,0 +1,20 @@
+package com.couple.numberbaseball.config;
+
+import com.couple.numberbaseball.util.CoarseClock;
+import com.couple.numberbaseball.util.GameClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 서버 시계 설정
+ * 방/세션/재접속 유예의 활동 시간과 만료 판정은 모두 이 시계를 사용
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean(destroyMethod = "close")
+    public GameClock gameClock(@Value("${game.clock.tick-millis:10}") long tickMillis) {
+        return new CoarseClock(tickMillis);
+    }
+}
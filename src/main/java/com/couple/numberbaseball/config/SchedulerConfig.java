@@ -1,7 +1,13 @@
 package com.couple.numberbaseball.config;
 
+import com.couple.numberbaseball.interceptor.FrameRateLimiter;
 import com.couple.numberbaseball.service.GameRoomService;
+import com.couple.numberbaseball.service.ReconnectionGraceService;
+import com.couple.numberbaseball.service.SessionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -10,20 +16,68 @@ import org.springframework.stereotype.Component;
  * 비활성화된 방들을 주기적으로 정리
  */
 @Component
+@EnableScheduling
 public class SchedulerConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(SchedulerConfig.class);
+
     @Autowired
     private GameRoomService gameRoomService;
 
+    @Autowired
+    private ReconnectionGraceService reconnectionGraceService;
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private FrameRateLimiter frameRateLimiter;
+
     /**
-     * 5분마다 비활성화된 방들 정리
+     * 정리 주기마다 만료 시각이 된 방들 정리 (타이밍 휠 한 틱)
      */
-    @Scheduled(fixedRate = 300000) // 5분 = 300,000ms
+    @Scheduled(fixedRateString = "${game.room.cleanup-interval:1000}")
     public void cleanupInactiveRooms() {
         try {
             gameRoomService.cleanupInactiveRooms();
         } catch (Exception e) {
-            System.err.println("방 정리 중 오류 발생: " + e.getMessage());
+            log.error("방 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 1초마다 재접속 유예 시간이 지난 플레이어 처리
+     */
+    @Scheduled(fixedRate = 1000)
+    public void expireReconnectionGrace() {
+        try {
+            reconnectionGraceService.expireDue();
+        } catch (Exception e) {
+            log.error("재접속 유예 처리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 5초마다 오래 사용되지 않은 세션 정리
+     */
+    @Scheduled(fixedRate = 5000)
+    public void cleanupSessions() {
+        try {
+            sessionService.cleanupSessions();
+        } catch (Exception e) {
+            log.error("세션 정리 중 오류 발생", e);
+        }
+    }
+
+    /**
+     * 1분마다 오래 쓰지 않은 프레임 속도 제한 버킷 정리
+     */
+    @Scheduled(fixedRate = 60000)
+    public void removeIdleRateLimitBuckets() {
+        try {
+            frameRateLimiter.removeIdleBuckets();
+        } catch (Exception e) {
+            log.error("속도 제한 버킷 정리 중 오류 발생", e);
         }
     }
 
@@ -34,9 +88,12 @@ public class SchedulerConfig {
     public void logServerStatus() {
         try {
             int activeRooms = gameRoomService.getActiveRoomCount();
-            System.out.println(String.format("[서버 상태] 활성 방: %d개", activeRooms));
+            log.info("[서버 상태] 활성 방: {}개, 활성 세션: {}개 (생성 {}, 만료 정리 {}), 재접속 대기: {}명",
+                    activeRooms, sessionService.getActiveSessionCount(), sessionService.getCreatedCount(),
+                    sessionService.getEvictedCount(),
+                    reconnectionGraceService.getPendingCount());
         } catch (Exception e) {
-            System.err.println("서버 상태 로그 출력 중 오류: " + e.getMessage());
+            log.error("서버 상태 로그 출력 중 오류", e);
         }
     }
 }
\ No newline at end of file
@@ -1,14 +1,25 @@
 package com.couple.numberbaseball.controller;
 
 import com.couple.numberbaseball.dto.*;
+import com.couple.numberbaseball.interceptor.FrameRateLimiter;
 import com.couple.numberbaseball.model.GameRoom;
+import com.couple.numberbaseball.model.GameRoomSnapshot;
+import com.couple.numberbaseball.model.GameStatus;
+import com.couple.numberbaseball.service.AdmissionControlService;
 import com.couple.numberbaseball.service.GameRoomService;
+import com.couple.numberbaseball.service.HintService;
+import com.couple.numberbaseball.service.ReconnectionGraceService;
+import com.couple.numberbaseball.service.RoomExecutor;
+import com.couple.numberbaseball.service.RoomRegistry;
 import com.couple.numberbaseball.service.SessionService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 게임 관련 REST API 컨트롤러
  */
@@ -23,13 +34,28 @@ public class GameController {
     @Autowired
     private SessionService sessionService;
 
+    @Autowired
+    private HintService hintService;
+
+    @Autowired
+    private RoomExecutor roomExecutor;
+
+    @Autowired
+    private ReconnectionGraceService reconnectionGraceService;
+
+    @Autowired
+    private AdmissionControlService admissionControlService;
+
+    @Autowired
+    private FrameRateLimiter frameRateLimiter;
+
     /**
      * 게임 방 생성 API
      * POST /api/game/create
      */
     @PostMapping("/create")
     public ResponseEntity<ApiResponseDto<CreateRoomResponseDto>> createRoom(
-            @RequestBody CreateRoomRequestDto request) {
+            @RequestBody CreateRoomRequestDto request, HttpServletRequest httpRequest) {
 
         try {
             // 입력 검증
@@ -38,11 +64,27 @@ public class GameController {
                         .body(ApiResponseDto.error("자릿수는 3, 4, 5 중 하나여야 합니다."));
             }
 
+            // 입장 제어 (세션/방을 만들기 전에 확인)
+            String clientIp = httpRequest.getRemoteAddr();
+            if (!admissionControlService.tryAcquireRoom(clientIp)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body(ApiResponseDto.error("현재 방을 더 만들 수 없습니다. 잠시 후 다시 시도해주세요."));
+            }
+
             // 세션 생성
             String sessionId = sessionService.createSession(request.getNickname());
+            admissionControlService.assignSeat(sessionId, clientIp);
 
             // 게임 방 생성
-            GameRoom room = gameRoomService.createRoom(sessionId, request.toGameSettings());
+            GameRoom room;
+            try {
+                room = gameRoomService.createRoom(sessionId, request.toGameSettings(), request.isVsBot());
+            } catch (RuntimeException e) {
+                admissionControlService.releaseRoom();
+                admissionControlService.releaseSeat(sessionId);
+                sessionService.removeSession(sessionId);
+                throw e;
+            }
 
             // 응답 생성
             CreateRoomResponseDto response = new CreateRoomResponseDto(
@@ -65,7 +107,7 @@ public class GameController {
      */
     @PostMapping("/join")
     public ResponseEntity<ApiResponseDto<JoinRoomResponseDto>> joinRoom(
-            @RequestBody JoinRoomRequestDto request) {
+            @RequestBody JoinRoomRequestDto request, HttpServletRequest httpRequest) {
 
         try {
             // 입력 검증
@@ -91,13 +133,30 @@ public class GameController {
                         .body(ApiResponseDto.error(message));
             }
 
+            // 입장 제어 (세션을 만들기 전에 확인)
+            String clientIp = httpRequest.getRemoteAddr();
+            if (!admissionControlService.tryAcquireSeat(clientIp)) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .body(ApiResponseDto.error("같은 곳에서 참여 중인 게임이 너무 많습니다."));
+            }
+
             // 세션 생성
             String sessionId = sessionService.createSession(request.getNickname());
+            admissionControlService.assignSeat(sessionId, clientIp);
 
             // 방 참가
-            GameRoom room = gameRoomService.joinRoom(roomCode, sessionId);
+            GameRoom room;
+            try {
+                room = gameRoomService.joinRoom(roomCode, sessionId);
+            } catch (RuntimeException e) {
+                admissionControlService.releaseSeat(sessionId);
+                sessionService.removeSession(sessionId);
+                throw e;
+            }
 
             if (room == null) {
+                admissionControlService.releaseSeat(sessionId);
+                sessionService.removeSession(sessionId);
                 return ResponseEntity.status(HttpStatus.CONFLICT)
                         .body(ApiResponseDto.error("방 참가에 실패했습니다."));
             }
@@ -140,14 +199,16 @@ public class GameController {
                         .body(ApiResponseDto.error("참가중인 방이 없습니다."));
             }
 
-            // 게임 상태 정보 생성
+            // 게임 상태 정보 생성 (락 없이 일관된 스냅샷 하나에서 읽음)
+            GameRoomSnapshot snapshot = room.getSnapshot();
             GameStateInfoDto stateInfo = new GameStateInfoDto();
-            stateInfo.setRoomCode(room.getRoomId());
-            stateInfo.setStatus(room.getStatus());
-            stateInfo.setCurrentTurn(room.getCurrentTurn());
-            stateInfo.setCreatorReady(room.isCreatorReady());
-            stateInfo.setJoinerReady(room.isJoinerReady());
-            stateInfo.setTurnCount(room.getHistory().size());
+            stateInfo.setRoomCode(snapshot.getRoomId());
+            stateInfo.setStatus(snapshot.getStatus());
+            stateInfo.setCurrentTurn(snapshot.getCurrentTurn());
+            stateInfo.setCreatorReady(snapshot.isCreatorReady());
+            stateInfo.setJoinerReady(snapshot.isJoinerReady());
+            stateInfo.setTurnCount(snapshot.getTurnCount());
+            stateInfo.setVersion(snapshot.getVersion());
 
             return ResponseEntity.ok(ApiResponseDto.success(stateInfo));
 
@@ -157,6 +218,43 @@ public class GameController {
         }
     }
 
+    /**
+     * 힌트 조회 API
+     * GET /api/game/hint/{sessionId}
+     */
+    @GetMapping("/hint/{sessionId}")
+    public ResponseEntity<ApiResponseDto<HintResponseDto>> getHint(@PathVariable String sessionId) {
+
+        try {
+            // 세션 검증
+            if (!sessionService.isValidSession(sessionId)) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponseDto.error("유효하지 않은 세션입니다."));
+            }
+
+            // 현재 참가중인 방 찾기
+            GameRoom room = gameRoomService.findRoomBySessionId(sessionId);
+            if (room == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(ApiResponseDto.error("참가중인 방이 없습니다."));
+            }
+
+            // 게임 상태 확인
+            if (room.getStatus() != GameStatus.IN_PROGRESS) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(ApiResponseDto.error("게임이 진행 중이 아닙니다."));
+            }
+
+            // 후보 집합을 방 레인에서 읽음
+            HintResponseDto hint = roomExecutor.call(room.getRoomId(), () -> hintService.getHint(room, sessionId));
+            return ResponseEntity.ok(ApiResponseDto.success(hint));
+
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("힌트 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     /**
      * 방 나가기 API (선택사항)
      * POST /api/game/leave/{sessionId}
@@ -185,6 +283,34 @@ public class GameController {
         }
     }
 
+    /**
+     * 샤드별 방 저장소 통계 API (디버깅용)
+     * GET /api/game/debug/shards
+     */
+    @GetMapping("/debug/shards")
+    public ResponseEntity<ApiResponseDto<List<RoomRegistry.ShardStats>>> getShardStats() {
+        try {
+            return ResponseEntity.ok(ApiResponseDto.success(gameRoomService.getShardStats()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("샤드 통계 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 입장 제어 현황 API (디버깅용)
+     * GET /api/game/debug/admission
+     */
+    @GetMapping("/debug/admission")
+    public ResponseEntity<ApiResponseDto<AdmissionControlService.Stats>> getAdmissionStats() {
+        try {
+            return ResponseEntity.ok(ApiResponseDto.success(admissionControlService.getStats()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponseDto.error("입장 제어 현황 조회 실패: " + e.getMessage()));
+        }
+    }
+
     /**
      * 서버 상태 확인 API (디버깅용)
      * GET /api/game/debug/status
@@ -195,7 +321,18 @@ public class GameController {
             int activeRooms = gameRoomService.getActiveRoomCount();
             int activeSessions = sessionService.getActiveSessionCount();
 
-            String status = String.format("활성 방: %d개, 활성 세션: %d개", activeRooms, activeSessions);
+            String status = String.format("활성 방: %d개 (격리 코드 %d, 재사용 코드 %d), 활성 세션: %d개 (생성 %d, 만료 정리 %d), 재접속 대기: %d명 (시작 %d, 재접속 %d, 만료 %d), 제한된 프레임: 세션 %d / 연결 %d (버킷 %d개), 작업 대기 레인: %d개",
+                    activeRooms, gameRoomService.getQuarantinedRoomCodeCount(),
+                    gameRoomService.getReusedRoomCodeCount(),
+                    activeSessions, sessionService.getCreatedCount(), sessionService.getEvictedCount(),
+                    reconnectionGraceService.getPendingCount(),
+                    reconnectionGraceService.getStartedCount(),
+                    reconnectionGraceService.getCancelledCount(),
+                    reconnectionGraceService.getExpiredCount(),
+                    frameRateLimiter.getThrottledBySessionCount(),
+                    frameRateLimiter.getThrottledByConnectionCount(),
+                    frameRateLimiter.getTrackedBucketCount(),
+                    roomExecutor.getActiveLaneCount());
             return ResponseEntity.ok(ApiResponseDto.success(status));
 
         } catch (Exception e) {
@@ -1,23 +1,31 @@
 package com.couple.numberbaseball.controller;
 
+import com.couple.numberbaseball.dto.HintResponseDto;
 import com.couple.numberbaseball.dto.websocket.*;
+import com.couple.numberbaseball.interceptor.PlayerContext;
 import com.couple.numberbaseball.model.GameRoom;
 import com.couple.numberbaseball.model.GameStatus;
 import com.couple.numberbaseball.model.GameTurn;
+import com.couple.numberbaseball.service.BotService;
 import com.couple.numberbaseball.service.GameLogicService;
 import com.couple.numberbaseball.service.GameRoomService;
+import com.couple.numberbaseball.service.HintService;
+import com.couple.numberbaseball.service.RoomBroadcaster;
+import com.couple.numberbaseball.service.RoomExecutor;
 import com.couple.numberbaseball.service.SessionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
-import java.util.Map;
 /**
  * WebSocket 메시지 처리 컨트롤러
  * 실시간 게임 상태 동기화 및 게임 플레이 로직 처리
+ * - 방 상태를 바꾸는 처리는 모두 해당 방의 실행 레인({@link RoomExecutor})에서 순서대로 실행
+ * - 연결 시 인터셉터가 검증해 둔 {@link PlayerContext}가 있으면 세션 재검증 없이 방 조회 한 번으로 권한 확인
  */
 @Controller
 public class WebSocketController {
@@ -34,15 +42,40 @@ public class WebSocketController {
     @Autowired
     private GameLogicService gameLogicService;
 
+    @Autowired
+    private HintService hintService;
+
+    @Autowired
+    private BotService botService;
+
+    @Autowired
+    private RoomExecutor roomExecutor;
+
+    @Autowired
+    private RoomBroadcaster roomBroadcaster;
+
     /**
      * 플레이어 준비 상태 설정
      * /app/game/ready
      */
     @MessageMapping("/game/ready")
-    public void handlePlayerReady(@Payload Map<String, Object> message) {
+    public void handlePlayerReady(@Payload ReadyCommandDto command,
+                                  SimpMessageHeaderAccessor headerAccessor) {
+        PlayerContext context = PlayerContext.from(headerAccessor.getSessionAttributes());
+        String sessionId = resolveSessionId(context, command.getSessionId());
+        String roomCode = resolveCurrentRoomCode(context, sessionId);
+
+        if (roomCode == null) {
+            processPlayerReady(null, context, command); // 검증 오류 응답만 발생
+            return;
+        }
+        roomExecutor.execute(roomCode, () -> processPlayerReady(roomCode, context, command));
+    }
+
+    private void processPlayerReady(String roomCode, PlayerContext context, ReadyCommandDto command) {
         try {
-            String sessionId = (String) message.get("sessionId");
-            Boolean ready = (Boolean) message.get("ready");
+            String sessionId = resolveSessionId(context, command.getSessionId());
+            Boolean ready = command.getReady();
 
             // 입력 검증
             if (sessionId == null || ready == null) {
@@ -50,15 +83,15 @@ public class WebSocketController {
                 return;
             }
 
-            // 세션 검증
-            if (!sessionService.isValidSession(sessionId)) {
+            // 연결 시 검증되지 않은 세션이면 세션 검증
+            if (context == null && !sessionService.isValidSession(sessionId)) {
                 sendErrorToUser(sessionId, "INVALID_SESSION", "유효하지 않은 세션입니다.");
                 return;
             }
 
             // 현재 참가중인 방 찾기
-            GameRoom room = gameRoomService.findRoomBySessionId(sessionId);
-            if (room == null) {
+            GameRoom room = roomCode != null ? gameRoomService.findRoomByCode(roomCode) : null;
+            if (room == null || !room.isPlayerInRoom(sessionId)) {
                 sendErrorToUser(sessionId, "NO_ROOM", "참가중인 방이 없습니다.");
                 return;
             }
@@ -80,7 +113,7 @@ public class WebSocketController {
                     sessionService.getPlayerNickname(sessionId)
             );
 
-            broadcastToRoom(room.getRoomId(), WebSocketMessageType.PLAYER_READY, readyPayload);
+            roomBroadcaster.broadcast(room.getRoomId(), WebSocketMessageType.PLAYER_READY, readyPayload);
 
             // 게임 상태 변경 브로드캐스트 (둘 다 준비되었을 경우)
             if (room.getStatus() == GameStatus.SETTING_ANSWERS) {
@@ -88,8 +121,7 @@ public class WebSocketController {
             }
 
         } catch (Exception e) {
-            String sessionId = (String) message.get("sessionId");
-            sendErrorToUser(sessionId, "SERVER_ERROR", "준비 상태 설정 중 오류가 발생했습니다: " + e.getMessage());
+            sendErrorToUser(resolveSessionId(context, command.getSessionId()), "SERVER_ERROR", "준비 상태 설정 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
@@ -99,10 +131,16 @@ public class WebSocketController {
      */
     @MessageMapping("/game/{roomCode}/setAnswer")
     public void handleSetAnswer(@DestinationVariable String roomCode,
-                                @Payload Map<String, Object> message) {
+                                @Payload SetAnswerCommandDto command,
+                                SimpMessageHeaderAccessor headerAccessor) {
+        PlayerContext context = PlayerContext.from(headerAccessor.getSessionAttributes());
+        roomExecutor.execute(roomCode, () -> processSetAnswer(roomCode, context, command));
+    }
+
+    private void processSetAnswer(String roomCode, PlayerContext context, SetAnswerCommandDto command) {
         try {
-            String sessionId = (String) message.get("sessionId");
-            String answer = (String) message.get("answer");
+            String sessionId = resolveSessionId(context, command.getSessionId());
+            String answer = command.getAnswer();
 
             // 입력 검증
             if (sessionId == null || answer == null) {
@@ -111,12 +149,11 @@ public class WebSocketController {
             }
 
             // 세션 및 방 검증
-            if (!validateSessionAndRoom(sessionId, roomCode)) {
+            GameRoom room = authorize(context, sessionId, roomCode);
+            if (room == null) {
                 return;
             }
 
-            GameRoom room = gameRoomService.findRoomByCode(roomCode);
-
             // 게임 상태 확인
             if (room.getStatus() != GameStatus.SETTING_ANSWERS) {
                 sendErrorToUser(sessionId, "INVALID_STATE", "정답을 설정할 수 없는 게임 상태입니다.");
@@ -137,16 +174,16 @@ public class WebSocketController {
             boolean allAnswersSet = (room.getCreatorAnswer() != null && room.getJoinerAnswer() != null);
             AnswerSetPayloadDto answerPayload = new AnswerSetPayloadDto(sessionId, true, allAnswersSet);
 
-            broadcastToRoom(roomCode, WebSocketMessageType.ANSWER_SET, answerPayload);
+            roomBroadcaster.broadcast(roomCode, WebSocketMessageType.ANSWER_SET, answerPayload);
 
             // 모든 플레이어가 정답을 설정했으면 게임 시작
             if (room.getStatus() == GameStatus.IN_PROGRESS) {
                 broadcastGameStateChange(room);
+                botService.onTurnChanged(room);
             }
 
         } catch (Exception e) {
-            String sessionId = (String) message.get("sessionId");
-            sendErrorToUser(sessionId, "SERVER_ERROR", "정답 설정 중 오류가 발생했습니다: " + e.getMessage());
+            sendErrorToUser(resolveSessionId(context, command.getSessionId()), "SERVER_ERROR", "정답 설정 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
@@ -156,10 +193,16 @@ public class WebSocketController {
      */
     @MessageMapping("/game/{roomCode}/guess")
     public void handleGuess(@DestinationVariable String roomCode,
-                            @Payload Map<String, Object> message) {
+                            @Payload GuessCommandDto command,
+                            SimpMessageHeaderAccessor headerAccessor) {
+        PlayerContext context = PlayerContext.from(headerAccessor.getSessionAttributes());
+        roomExecutor.execute(roomCode, () -> processGuess(roomCode, context, command));
+    }
+
+    private void processGuess(String roomCode, PlayerContext context, GuessCommandDto command) {
         try {
-            String sessionId = (String) message.get("sessionId");
-            String guess = (String) message.get("guess");
+            String sessionId = resolveSessionId(context, command.getSessionId());
+            String guess = command.getGuess();
 
             // 입력 검증
             if (sessionId == null || guess == null) {
@@ -168,18 +211,23 @@ public class WebSocketController {
             }
 
             // 세션 및 방 검증
-            if (!validateSessionAndRoom(sessionId, roomCode)) {
+            GameRoom room = authorize(context, sessionId, roomCode);
+            if (room == null) {
                 return;
             }
 
-            GameRoom room = gameRoomService.findRoomByCode(roomCode);
-
             // 게임 상태 확인
             if (room.getStatus() != GameStatus.IN_PROGRESS) {
                 sendErrorToUser(sessionId, "INVALID_STATE", "게임이 진행 중이 아닙니다.");
                 return;
             }
 
+            // 클라이언트가 알고 있는 상태 버전과 다르면 중복/경합 추측으로 보고 거부
+            if (command.hasVersion() && command.getVersion() != room.getVersion()) {
+                sendErrorToUser(sessionId, "STALE_VERSION", "이미 처리되었거나 오래된 상태에서 보낸 추측입니다.");
+                return;
+            }
+
             // 현재 턴인지 확인
             if (!room.isPlayerTurn(sessionId)) {
                 sendErrorToUser(sessionId, "NOT_YOUR_TURN", "현재 당신의 턴이 아닙니다.");
@@ -200,19 +248,20 @@ public class WebSocketController {
                 targetAnswer = room.getCreatorAnswer();
             }
 
-            // 판정 수행
-            String result = gameLogicService.judge(guess, targetAnswer);
+            // 판정 수행 (문자열 포맷은 기록/전송 직전에만)
+            int judgeResult = gameLogicService.judgeCode(guess, targetAnswer, room.getSettings());
 
-            // 게임 턴 추가
-            room.addTurn(sessionId, guess, result);
+            // 게임 턴 추가 (추측한 플레이어의 후보 집합도 함께 갱신)
+            room.addTurn(sessionId, guess, judgeResult, gameLogicService.judgeTable(room.getSettings()));
             gameRoomService.updateRoom(room);
 
             // 최신 턴 정보 가져오기
-            GameTurn latestTurn = room.getHistory().get(room.getHistory().size() - 1);
+            GameTurn latestTurn = room.latestTurn();
 
             // 새로운 추측 결과 브로드캐스트
-            NewGuessPayloadDto guessPayload = NewGuessPayloadDto.fromGameTurn(latestTurn, room.getCurrentTurn());
-            broadcastToRoom(roomCode, WebSocketMessageType.NEW_GUESS, guessPayload);
+            NewGuessPayloadDto guessPayload =
+                    NewGuessPayloadDto.fromGameTurn(latestTurn, room.getCurrentTurn(), room.getVersion());
+            roomBroadcaster.broadcast(roomCode, WebSocketMessageType.NEW_GUESS, guessPayload);
 
             // 게임 종료 확인
             if (room.getStatus() == GameStatus.FINISHED) {
@@ -222,12 +271,14 @@ public class WebSocketController {
                         "WIN",
                         room.getHistory()
                 );
-                broadcastToRoom(roomCode, WebSocketMessageType.GAME_FINISHED, finishPayload);
+                roomBroadcaster.broadcast(roomCode, WebSocketMessageType.GAME_FINISHED, finishPayload);
+            } else {
+                // AI 상대 차례면 봇 추측 예약
+                botService.onTurnChanged(room);
             }
 
         } catch (Exception e) {
-            String sessionId = (String) message.get("sessionId");
-            sendErrorToUser(sessionId, "SERVER_ERROR", "추측 처리 중 오류가 발생했습니다: " + e.getMessage());
+            sendErrorToUser(resolveSessionId(context, command.getSessionId()), "SERVER_ERROR", "추측 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
@@ -237,17 +288,22 @@ public class WebSocketController {
      */
     @MessageMapping("/game/{roomCode}/abandon")
     public void handleAbandon(@DestinationVariable String roomCode,
-                              @Payload Map<String, Object> message) {
+                              @Payload SessionCommandDto command,
+                              SimpMessageHeaderAccessor headerAccessor) {
+        PlayerContext context = PlayerContext.from(headerAccessor.getSessionAttributes());
+        roomExecutor.execute(roomCode, () -> processAbandon(roomCode, context, command));
+    }
+
+    private void processAbandon(String roomCode, PlayerContext context, SessionCommandDto command) {
         try {
-            String sessionId = (String) message.get("sessionId");
+            String sessionId = resolveSessionId(context, command.getSessionId());
 
             // 세션 및 방 검증
-            if (!validateSessionAndRoom(sessionId, roomCode)) {
+            GameRoom room = authorize(context, sessionId, roomCode);
+            if (room == null) {
                 return;
             }
 
-            GameRoom room = gameRoomService.findRoomByCode(roomCode);
-
             // 게임 포기 처리
             room.abandonGame(sessionId);
             gameRoomService.updateRoom(room);
@@ -262,16 +318,136 @@ public class WebSocketController {
                     "ABANDON",
                     room.getHistory()
             );
-            broadcastToRoom(roomCode, WebSocketMessageType.GAME_FINISHED, finishPayload);
+            roomBroadcaster.broadcast(roomCode, WebSocketMessageType.GAME_FINISHED, finishPayload);
+
+        } catch (Exception e) {
+            sendErrorToUser(resolveSessionId(context, command.getSessionId()), "SERVER_ERROR", "게임 포기 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 힌트 요청 처리 (요청한 플레이어에게만 응답)
+     * /app/game/{roomCode}/hint
+     */
+    @MessageMapping("/game/{roomCode}/hint")
+    public void handleHint(@DestinationVariable String roomCode,
+                           @Payload SessionCommandDto command,
+                           SimpMessageHeaderAccessor headerAccessor) {
+        PlayerContext context = PlayerContext.from(headerAccessor.getSessionAttributes());
+        roomExecutor.execute(roomCode, () -> processHint(roomCode, context, command));
+    }
+
+    private void processHint(String roomCode, PlayerContext context, SessionCommandDto command) {
+        try {
+            String sessionId = resolveSessionId(context, command.getSessionId());
+
+            // 세션 및 방 검증
+            GameRoom room = authorize(context, sessionId, roomCode);
+            if (room == null) {
+                return;
+            }
+
+            // 게임 상태 확인
+            if (room.getStatus() != GameStatus.IN_PROGRESS) {
+                sendErrorToUser(sessionId, "INVALID_STATE", "게임이 진행 중이 아닙니다.");
+                return;
+            }
+
+            HintResponseDto hint = hintService.getHint(room, sessionId);
+            WebSocketMessageDto<HintResponseDto> hintMessage =
+                    new WebSocketMessageDto<>(WebSocketMessageType.HINT, hint);
+
+            messagingTemplate.convertAndSendToUser(sessionId, "/queue/hint", hintMessage);
 
         } catch (Exception e) {
-            String sessionId = (String) message.get("sessionId");
-            sendErrorToUser(sessionId, "SERVER_ERROR", "게임 포기 처리 중 오류가 발생했습니다: " + e.getMessage());
+            sendErrorToUser(resolveSessionId(context, command.getSessionId()), "SERVER_ERROR", "힌트 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 재동기화 요청 처리 (상태 + 놓친 기록을 요청한 플레이어에게 메시지 하나로 응답)
+     * /app/game/{roomCode}/sync
+     */
+    @MessageMapping("/game/{roomCode}/sync")
+    public void handleSync(@DestinationVariable String roomCode,
+                           @Payload SyncCommandDto command,
+                           SimpMessageHeaderAccessor headerAccessor) {
+        PlayerContext context = PlayerContext.from(headerAccessor.getSessionAttributes());
+        roomExecutor.execute(roomCode, () -> processSync(roomCode, context, command));
+    }
+
+    private void processSync(String roomCode, PlayerContext context, SyncCommandDto command) {
+        try {
+            String sessionId = resolveSessionId(context, command.getSessionId());
+
+            // 세션 및 방 검증
+            GameRoom room = authorize(context, sessionId, roomCode);
+            if (room == null) {
+                return;
+            }
+
+            roomBroadcaster.sendToUser(sessionId, "/queue/game-state", WebSocketMessageType.GAME_SNAPSHOT,
+                    GameSnapshotPayloadDto.fromRoom(room, command.getSinceTurn()));
+
+        } catch (Exception e) {
+            sendErrorToUser(resolveSessionId(context, command.getSessionId()), "SERVER_ERROR", "재동기화 처리 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
 
     // === 유틸리티 메서드 ===
 
+    /**
+     * 요청한 플레이어의 세션 ID (연결 시 검증된 세션이 있으면 그것을 사용)
+     */
+    private String resolveSessionId(PlayerContext context, String payloadSessionId) {
+        return context != null ? context.getPlayerSessionId() : payloadSessionId;
+    }
+
+    /**
+     * 플레이어가 현재 참가 중인 방 코드 (연결 정보가 가리키는 방을 떠났으면 다시 조회해 갱신)
+     */
+    private String resolveCurrentRoomCode(PlayerContext context, String sessionId) {
+        if (sessionId == null) {
+            return null;
+        }
+        if (context != null && context.getRoomCode() != null) {
+            GameRoom room = gameRoomService.findRoomByCode(context.getRoomCode());
+            if (room != null && room.isPlayerInRoom(sessionId)) {
+                return room.getRoomId();
+            }
+        }
+
+        GameRoom room = gameRoomService.findRoomBySessionId(sessionId);
+        String roomCode = room != null ? room.getRoomId() : null;
+        if (context != null) {
+            context.setRoomCode(roomCode);
+        }
+        return roomCode;
+    }
+
+    /**
+     * 방 조회와 권한 확인
+     * - 연결 시 검증된 플레이어면 방 조회 한 번과 참가자 비교만 수행
+     * - 그렇지 않으면 세션부터 검증
+     * @return 플레이어가 속한 방, 검증 실패 시 오류를 보내고 null
+     */
+    private GameRoom authorize(PlayerContext context, String sessionId, String roomCode) {
+        if (context == null) {
+            return validateSessionAndRoom(sessionId, roomCode) ? gameRoomService.findRoomByCode(roomCode) : null;
+        }
+
+        GameRoom room = gameRoomService.findRoomByCode(roomCode);
+        if (room == null) {
+            sendErrorToUser(sessionId, "ROOM_NOT_FOUND", "방을 찾을 수 없습니다.");
+            return null;
+        }
+        if (!room.isPlayerInRoom(sessionId)) {
+            sendErrorToUser(sessionId, "NOT_IN_ROOM", "해당 방에 속해있지 않습니다.");
+            return null;
+        }
+        return room;
+    }
+
     /**
      * 세션과 방 유효성 검증
      */
@@ -298,27 +474,13 @@ public class WebSocketController {
         return true;
     }
 
-    /**
-     * 방의 모든 플레이어에게 메시지 브로드캐스트
-     */
-    private <T> void broadcastToRoom(String roomCode, WebSocketMessageType messageType, T payload) {
-        WebSocketMessageDto<T> message = new WebSocketMessageDto<>(messageType, payload);
-        messagingTemplate.convertAndSend("/topic/game/" + roomCode + "/sync", message);
-    }
-
     /**
      * 게임 상태 변경 브로드캐스트
      */
     private void broadcastGameStateChange(GameRoom room) {
-        StateChangePayloadDto statePayload = new StateChangePayloadDto(
-                room.getStatus(),
-                room.getCurrentTurn(),
-                room.getRoomId(),
-                room.isCreatorReady(),
-                room.isJoinerReady()
-        );
-
-        broadcastToRoom(room.getRoomId(), WebSocketMessageType.STATE_CHANGE, statePayload);
+        StateChangePayloadDto statePayload = StateChangePayloadDto.fromSnapshot(room.getSnapshot());
+
+        roomBroadcaster.broadcast(room.getRoomId(), WebSocketMessageType.STATE_CHANGE, statePayload);
     }
 
     /**
@@ -10,6 +10,7 @@ public class CreateRoomRequestDto {
     private int digits;              // 자릿수 (3, 4, 5)
     private boolean allowZero;       // 0 포함 여부
     private boolean allowDuplicate;  // 중복 허용 여부
+    private boolean vsBot;           // AI 상대와 1인 플레이 여부
 
     // 기본 생성자
     public CreateRoomRequestDto() {}
@@ -47,6 +48,14 @@ public class CreateRoomRequestDto {
         this.allowDuplicate = allowDuplicate;
     }
 
+    public boolean isVsBot() {
+        return vsBot;
+    }
+
+    public void setVsBot(boolean vsBot) {
+        this.vsBot = vsBot;
+    }
+
     /**
      * GameSettings 객체로 변환
      */
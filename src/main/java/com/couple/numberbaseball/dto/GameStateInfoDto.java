@@ -12,6 +12,7 @@ public class GameStateInfoDto {
     private boolean creatorReady;
     private boolean joinerReady;
     private int turnCount;           // 총 턴 수
+    private long version;            // 방 상태 버전
 
     public GameStateInfoDto() {}
 
@@ -63,4 +64,12 @@ public class GameStateInfoDto {
     public void setTurnCount(int turnCount) {
         this.turnCount = turnCount;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
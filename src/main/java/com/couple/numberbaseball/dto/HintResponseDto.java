@@ -0,0 +1,43 @@
+package com.couple.numberbaseball.dto;
+
+/**
+ * 힌트 응답 DTO (REST 응답 및 WebSocket 페이로드 공용)
+ */
+public class HintResponseDto {
+    private int remainingCandidates;   // 지금까지의 판정과 모순되지 않는 정답 후보 수
+    private String suggestedGuess;     // 추천 추측 (후보가 없으면 null)
+    private int worstCaseRemaining;    // 추천 추측 후 최악의 경우 남는 후보 수
+
+    public HintResponseDto() {}
+
+    public HintResponseDto(int remainingCandidates, String suggestedGuess, int worstCaseRemaining) {
+        this.remainingCandidates = remainingCandidates;
+        this.suggestedGuess = suggestedGuess;
+        this.worstCaseRemaining = worstCaseRemaining;
+    }
+
+    // Getters and Setters
+    public int getRemainingCandidates() {
+        return remainingCandidates;
+    }
+
+    public void setRemainingCandidates(int remainingCandidates) {
+        this.remainingCandidates = remainingCandidates;
+    }
+
+    public String getSuggestedGuess() {
+        return suggestedGuess;
+    }
+
+    public void setSuggestedGuess(String suggestedGuess) {
+        this.suggestedGuess = suggestedGuess;
+    }
+
+    public int getWorstCaseRemaining() {
+        return worstCaseRemaining;
+    }
+
+    public void setWorstCaseRemaining(int worstCaseRemaining) {
+        this.worstCaseRemaining = worstCaseRemaining;
+    }
+}
@@ -0,0 +1,71 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+/**
+ * 클라이언트 명령 페이로드용 스트리밍 역직렬화 기반 클래스
+ * - 중간 Map/JsonNode 없이 토큰을 읽으며 필드를 바로 채움
+ * - 모르는 필드의 값, 아는 필드에 잘못 온 객체/배열 값은 하위 토큰까지 건너뜀
+ *
+ * @param <T> 명령 DTO 타입
+ */
+public abstract class CommandDeserializer<T> extends StdDeserializer<T> {
+
+    protected CommandDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        }
+
+        Fields fields = new Fields();
+        while (token == JsonToken.FIELD_NAME) {
+            String name = p.currentName();
+            p.nextToken();
+            readField(name, p, fields);
+            // 값이 객체/배열이면 닫는 토큰으로 이동 (스칼라 값이면 아무 일도 하지 않음)
+            p.skipChildren();
+            token = p.nextToken();
+        }
+
+        if (token != JsonToken.END_OBJECT) {
+            return (T) ctxt.handleUnexpectedToken(handledType(), p);
+        }
+        return build(fields);
+    }
+
+    /**
+     * 필드 하나 읽기 (파서는 값 토큰에 위치, 모르는 필드는 무시)
+     * 값이 객체/배열이어도 하위 토큰은 기반 클래스가 건너뛰므로 값 토큰만 보면 됨
+     */
+    protected abstract void readField(String name, JsonParser p, Fields fields) throws IOException;
+
+    protected abstract T build(Fields fields);
+
+    /**
+     * 문자열 값 (null이면 null, 숫자 등은 문자열로 변환, 객체/배열이면 null)
+     */
+    protected static String readString(JsonParser p) throws IOException {
+        return p.currentToken() == JsonToken.VALUE_NULL ? null : p.getValueAsString();
+    }
+
+    /**
+     * 명령 하나에서 읽은 값 (명령마다 필요한 칸만 사용)
+     */
+    protected static final class Fields {
+        String sessionId;
+        String text;
+        Boolean flag;
+        long number = -1L;
+    }
+}
@@ -0,0 +1,83 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.couple.numberbaseball.model.GameRoom;
+import com.couple.numberbaseball.model.GameTurn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 재동기화용 게임 스냅샷 페이로드
+ * 현재 상태와, 클라이언트가 이미 받은 턴 이후의 기록을 메시지 하나로 전달
+ */
+public class GameSnapshotPayloadDto {
+    private StateChangePayloadDto state;        // 현재 게임 상태
+    private int fromTurn;                       // turns의 첫 항목 앞까지 생략된 턴 수
+    private int totalTurns;                     // 전체 턴 수
+    private List<NewGuessPayloadDto> turns;     // fromTurn 이후의 추측 기록
+
+    public GameSnapshotPayloadDto() {}
+
+    public GameSnapshotPayloadDto(StateChangePayloadDto state, int fromTurn, int totalTurns,
+                                  List<NewGuessPayloadDto> turns) {
+        this.state = state;
+        this.fromTurn = fromTurn;
+        this.totalTurns = totalTurns;
+        this.turns = turns;
+    }
+
+    /**
+     * 방의 현재 상태로 스냅샷 생성 (방 레인 안에서 호출)
+     * @param room 게임 방
+     * @param sinceTurn 클라이언트가 이미 가진 턴 수 (0이면 전체 기록)
+     */
+    public static GameSnapshotPayloadDto fromRoom(GameRoom room, int sinceTurn) {
+        List<GameTurn> history = room.getHistory();
+        int from = Math.max(0, Math.min(sinceTurn, history.size()));
+
+        List<NewGuessPayloadDto> turns = new ArrayList<>(history.size() - from);
+        for (int i = from; i < history.size(); i++) {
+            turns.add(NewGuessPayloadDto.fromGameTurn(history.get(i), room.getCurrentTurn()));
+        }
+
+        return new GameSnapshotPayloadDto(
+                StateChangePayloadDto.fromSnapshot(room.getSnapshot()),
+                from,
+                history.size(),
+                turns
+        );
+    }
+
+    // Getters and Setters
+    public StateChangePayloadDto getState() {
+        return state;
+    }
+
+    public void setState(StateChangePayloadDto state) {
+        this.state = state;
+    }
+
+    public int getFromTurn() {
+        return fromTurn;
+    }
+
+    public void setFromTurn(int fromTurn) {
+        this.fromTurn = fromTurn;
+    }
+
+    public int getTotalTurns() {
+        return totalTurns;
+    }
+
+    public void setTotalTurns(int totalTurns) {
+        this.totalTurns = totalTurns;
+    }
+
+    public List<NewGuessPayloadDto> getTurns() {
+        return turns;
+    }
+
+    public void setTurns(List<NewGuessPayloadDto> turns) {
+        this.turns = turns;
+    }
+}
@@ -0,0 +1,74 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * 추측 명령
+ */
+@JsonDeserialize(using = GuessCommandDto.Deserializer.class)
+public class GuessCommandDto {
+
+    /** 클라이언트가 상태 버전을 보내지 않음 */
+    public static final long NO_VERSION = -1L;
+
+    private final String sessionId;
+    private final String guess;
+    private final long version;       // 클라이언트가 알고 있는 방 상태 버전
+
+    public GuessCommandDto(String sessionId, String guess, long version) {
+        this.sessionId = sessionId;
+        this.guess = guess;
+        this.version = version;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getGuess() {
+        return guess;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean hasVersion() {
+        return version != NO_VERSION;
+    }
+
+    static class Deserializer extends CommandDeserializer<GuessCommandDto> {
+        Deserializer() {
+            super(GuessCommandDto.class);
+        }
+
+        @Override
+        protected void readField(String name, JsonParser p, Fields fields) throws IOException {
+            switch (name) {
+                case "sessionId":
+                    fields.sessionId = readString(p);
+                    break;
+                case "guess":
+                    fields.text = readString(p);
+                    break;
+                case "version":
+                    JsonToken token = p.currentToken();
+                    if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                        fields.number = p.getValueAsLong();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        protected GuessCommandDto build(Fields fields) {
+            return new GuessCommandDto(fields.sessionId, fields.text, fields.number);
+        }
+    }
+}
@@ -9,8 +9,12 @@ public class NewGuessPayloadDto {
     private String guesser;         // 추측한 플레이어 세션 ID
     private String guess;           // 추측한 숫자
     private String result;          // 판정 결과 (예: "1S 2B")
+    private int strikes;            // 스트라이크 개수
+    private int balls;              // 볼 개수
+    private boolean win;            // 승리한 추측인지
     private int turnNumber;         // 턴 번호
     private String nextTurn;        // 다음 턴 플레이어 세션 ID
+    private long version;           // 이 추측 반영 후 방 상태 버전
 
     public NewGuessPayloadDto() {}
 
@@ -26,13 +30,26 @@ public class NewGuessPayloadDto {
      * GameTurn 객체로부터 생성하는 정적 팩토리 메서드
      */
     public static NewGuessPayloadDto fromGameTurn(GameTurn turn, String nextTurn) {
-        return new NewGuessPayloadDto(
+        NewGuessPayloadDto payload = new NewGuessPayloadDto(
                 turn.getGuesserSessionId(),
                 turn.getGuess(),
                 turn.getResult(),
                 turn.getTurnNumber(),
                 nextTurn
         );
+        payload.setStrikes(turn.getStrikes());
+        payload.setBalls(turn.getBalls());
+        payload.setWin(turn.isWin());
+        return payload;
+    }
+
+    /**
+     * GameTurn 객체와 반영 후 방 상태 버전으로 생성하는 정적 팩토리 메서드
+     */
+    public static NewGuessPayloadDto fromGameTurn(GameTurn turn, String nextTurn, long version) {
+        NewGuessPayloadDto payload = fromGameTurn(turn, nextTurn);
+        payload.setVersion(version);
+        return payload;
     }
 
     // Getters and Setters
@@ -60,6 +77,30 @@ public class NewGuessPayloadDto {
         this.result = result;
     }
 
+    public int getStrikes() {
+        return strikes;
+    }
+
+    public void setStrikes(int strikes) {
+        this.strikes = strikes;
+    }
+
+    public int getBalls() {
+        return balls;
+    }
+
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+
+    public boolean isWin() {
+        return win;
+    }
+
+    public void setWin(boolean win) {
+        this.win = win;
+    }
+
     public int getTurnNumber() {
         return turnNumber;
     }
@@ -75,4 +116,12 @@ public class NewGuessPayloadDto {
     public void setNextTurn(String nextTurn) {
         this.nextTurn = nextTurn;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,56 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * 준비 상태 설정 명령
+ */
+@JsonDeserialize(using = ReadyCommandDto.Deserializer.class)
+public class ReadyCommandDto {
+    private final String sessionId;
+    private final Boolean ready;      // 누락되면 null
+
+    public ReadyCommandDto(String sessionId, Boolean ready) {
+        this.sessionId = sessionId;
+        this.ready = ready;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public Boolean getReady() {
+        return ready;
+    }
+
+    static class Deserializer extends CommandDeserializer<ReadyCommandDto> {
+        Deserializer() {
+            super(ReadyCommandDto.class);
+        }
+
+        @Override
+        protected void readField(String name, JsonParser p, Fields fields) throws IOException {
+            switch (name) {
+                case "sessionId":
+                    fields.sessionId = readString(p);
+                    break;
+                case "ready":
+                    JsonToken token = p.currentToken();
+                    fields.flag = token == JsonToken.VALUE_TRUE ? Boolean.TRUE
+                            : token == JsonToken.VALUE_FALSE ? Boolean.FALSE : null;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        protected ReadyCommandDto build(Fields fields) {
+            return new ReadyCommandDto(fields.sessionId, fields.flag);
+        }
+    }
+}
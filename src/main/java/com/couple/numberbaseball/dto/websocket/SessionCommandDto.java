@@ -0,0 +1,40 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * 세션 ID만 담는 명령 (게임 포기, 힌트 요청)
+ */
+@JsonDeserialize(using = SessionCommandDto.Deserializer.class)
+public class SessionCommandDto {
+    private final String sessionId;
+
+    public SessionCommandDto(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    static class Deserializer extends CommandDeserializer<SessionCommandDto> {
+        Deserializer() {
+            super(SessionCommandDto.class);
+        }
+
+        @Override
+        protected void readField(String name, JsonParser p, Fields fields) throws IOException {
+            if ("sessionId".equals(name)) {
+                fields.sessionId = readString(p);
+            }
+        }
+
+        @Override
+        protected SessionCommandDto build(Fields fields) {
+            return new SessionCommandDto(fields.sessionId);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * 정답 설정 명령
+ */
+@JsonDeserialize(using = SetAnswerCommandDto.Deserializer.class)
+public class SetAnswerCommandDto {
+    private final String sessionId;
+    private final String answer;
+
+    public SetAnswerCommandDto(String sessionId, String answer) {
+        this.sessionId = sessionId;
+        this.answer = answer;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public String getAnswer() {
+        return answer;
+    }
+
+    static class Deserializer extends CommandDeserializer<SetAnswerCommandDto> {
+        Deserializer() {
+            super(SetAnswerCommandDto.class);
+        }
+
+        @Override
+        protected void readField(String name, JsonParser p, Fields fields) throws IOException {
+            switch (name) {
+                case "sessionId":
+                    fields.sessionId = readString(p);
+                    break;
+                case "answer":
+                    fields.text = readString(p);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        protected SetAnswerCommandDto build(Fields fields) {
+            return new SetAnswerCommandDto(fields.sessionId, fields.text);
+        }
+    }
+}
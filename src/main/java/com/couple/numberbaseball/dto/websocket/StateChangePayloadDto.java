@@ -1,5 +1,6 @@
 package com.couple.numberbaseball.dto.websocket;
 
+import com.couple.numberbaseball.model.GameRoomSnapshot;
 import com.couple.numberbaseball.model.GameStatus;
 
 /**
@@ -11,6 +12,7 @@ public class StateChangePayloadDto {
     private String roomCode;
     private boolean creatorReady;
     private boolean joinerReady;
+    private long version;           // 방 상태 버전 (추측 요청 시 그대로 보내면 중복/경합 추측 거부)
 
     public StateChangePayloadDto() {}
 
@@ -23,6 +25,21 @@ public class StateChangePayloadDto {
         this.joinerReady = joinerReady;
     }
 
+    /**
+     * 방 상태 스냅샷으로부터 생성하는 정적 팩토리 메서드
+     */
+    public static StateChangePayloadDto fromSnapshot(GameRoomSnapshot snapshot) {
+        StateChangePayloadDto payload = new StateChangePayloadDto(
+                snapshot.getStatus(),
+                snapshot.getCurrentTurn(),
+                snapshot.getRoomId(),
+                snapshot.isCreatorReady(),
+                snapshot.isJoinerReady()
+        );
+        payload.setVersion(snapshot.getVersion());
+        return payload;
+    }
+
     // Getters and Setters
     public GameStatus getStatus() {
         return status;
@@ -63,4 +80,12 @@ public class StateChangePayloadDto {
     public void setJoinerReady(boolean joinerReady) {
         this.joinerReady = joinerReady;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,56 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+
+/**
+ * 재동기화 요청 명령
+ */
+@JsonDeserialize(using = SyncCommandDto.Deserializer.class)
+public class SyncCommandDto {
+    private final String sessionId;
+    private final int sinceTurn;      // 클라이언트가 이미 가진 턴 수 (없으면 0)
+
+    public SyncCommandDto(String sessionId, int sinceTurn) {
+        this.sessionId = sessionId;
+        this.sinceTurn = sinceTurn;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public int getSinceTurn() {
+        return sinceTurn;
+    }
+
+    static class Deserializer extends CommandDeserializer<SyncCommandDto> {
+        Deserializer() {
+            super(SyncCommandDto.class);
+        }
+
+        @Override
+        protected void readField(String name, JsonParser p, Fields fields) throws IOException {
+            switch (name) {
+                case "sessionId":
+                    fields.sessionId = readString(p);
+                    break;
+                case "sinceTurn":
+                    if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                        fields.number = p.getValueAsLong();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        protected SyncCommandDto build(Fields fields) {
+            return new SyncCommandDto(fields.sessionId, (int) Math.max(0L, Math.min(fields.number, Integer.MAX_VALUE)));
+        }
+    }
+}
@@ -23,6 +23,12 @@ public enum WebSocketMessageType {
     PLAYER_CONNECTED,
     PLAYER_DISCONNECTED,
 
+    // 힌트 (요청한 플레이어에게만 전송)
+    HINT,
+
+    // 재동기화용 상태 + 기록 스냅샷 (요청한 플레이어에게만 전송)
+    GAME_SNAPSHOT,
+
     // 오류 메시지
     ERROR
 }
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.couple.numberbaseball.engine;
+
+/**
+ * 코드 색인 위의 후보 정답 집합 (long[] 비트셋)
+ * - 메모리: 코드 수 / 8 바이트 (4자리 0 미포함 중복 불가 3024개 -> 378바이트, 최대 90000개 -> 약 11KB)
+ * - 판정 결과가 하나 들어올 때마다 모순되는 후보만 지우는 방식으로 점진적으로 좁혀짐
+ */
+public final class CandidateSet implements CandidateView {
+
+    private final CodeSpace space;
+    private final long[] words;
+    private int size;
+
+    private CandidateSet(CodeSpace space) {
+        this.space = space;
+        this.words = new long[(space.size() + 63) >>> 6];
+        this.size = space.size();
+
+        for (int i = 0; i < words.length; i++) {
+            words[i] = -1L;
+        }
+        int tail = space.size() & 63;
+        if (tail != 0) {
+            words[words.length - 1] = (1L << tail) - 1;
+        }
+    }
+
+    /**
+     * 코드 색인의 모든 코드를 후보로 갖는 집합 생성
+     */
+    public static CandidateSet all(CodeSpace space) {
+        return new CandidateSet(space);
+    }
+
+    /**
+     * 추측 하나의 판정 결과와 모순되는 후보 제거
+     * @param table 판정 테이블 (같은 코드 색인)
+     * @param guessId 추측 코드 id
+     * @param result 판정 결과 ({@link JudgeResult} 형식)
+     * @return 남은 후보 수
+     */
+    public int retain(JudgeTable table, int guessId, int result) {
+        int remaining = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            long kept = word;
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                if (table.judge(guessId, (w << 6) | bit) != result) {
+                    kept &= ~(1L << bit);
+                }
+                word &= word - 1;
+            }
+            words[w] = kept;
+            remaining += Long.bitCount(kept);
+        }
+        size = remaining;
+        return remaining;
+    }
+
+    /**
+     * n번째 (0부터) 후보 id
+     * @throws IndexOutOfBoundsException n이 후보 수 이상
+     */
+    @Override
+    public int get(int n) {
+        if (n < 0 || n >= size) {
+            throw new IndexOutOfBoundsException("후보 범위를 벗어났습니다: " + n);
+        }
+        for (int w = 0; w < words.length; w++) {
+            int count = Long.bitCount(words[w]);
+            if (n < count) {
+                long word = words[w];
+                for (int i = 0; i < n; i++) {
+                    word &= word - 1;
+                }
+                return (w << 6) | Long.numberOfTrailingZeros(word);
+            }
+            n -= count;
+        }
+        throw new IndexOutOfBoundsException("후보 범위를 벗어났습니다: " + n);
+    }
+
+    @Override
+    public int[] toArray() {
+        int[] ids = new int[size];
+        int index = 0;
+        for (int w = 0; w < words.length; w++) {
+            long word = words[w];
+            while (word != 0) {
+                ids[index++] = (w << 6) | Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public boolean contains(int id) {
+        return (words[id >>> 6] & (1L << id)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public CodeSpace space() {
+        return space;
+    }
+}
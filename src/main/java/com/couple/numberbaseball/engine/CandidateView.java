@@ -0,0 +1,33 @@
+package com.couple.numberbaseball.engine;
+
+/**
+ * 후보 정답 집합의 읽기 전용 뷰
+ * 서비스 계층에는 이 타입으로만 노출하여 게임 방 밖에서 후보가 바뀌지 않도록 함
+ */
+public interface CandidateView {
+
+    /**
+     * 남은 후보 수
+     */
+    int size();
+
+    /**
+     * 해당 코드 id가 후보인지 확인
+     */
+    boolean contains(int id);
+
+    /**
+     * n번째 (0부터) 후보 id
+     */
+    int get(int n);
+
+    /**
+     * 남은 후보 id 배열 (오름차순, 새 배열)
+     */
+    int[] toArray();
+
+    /**
+     * 후보가 속한 코드 색인
+     */
+    CodeSpace space();
+}
@@ -0,0 +1,251 @@
+package com.couple.numberbaseball.engine;
+
+import com.couple.numberbaseball.model.GameSettings;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 게임 설정 하나가 허용하는 모든 숫자(코드)의 색인
+ * - 유효한 코드마다 0부터 시작하는 연속된 int id 부여
+ * - 십진수 값 -> id 배열로 O(1) 유효성 검사
+ * - 설정 조합(자릿수 3~5 x 0허용 x 중복허용)마다 한 번만 만들어 공유하는 불변 객체
+ *
+ * 코드 규칙은 기존 입력 검증과 동일
+ * - 첫 자리는 0 불가, 0 비허용이면 어느 자리도 0 불가, 중복 비허용이면 같은 숫자 반복 불가
+ * - 첫 자리가 0이 아니므로 십진수 값의 문자열 표현이 곧 코드 문자열
+ */
+public final class CodeSpace implements JudgeTable {
+
+    public static final int MIN_DIGITS = 3;
+    public static final int MAX_DIGITS = JudgeResult.MAX_DIGITS;
+
+    private static final int SLOT_COUNT = (MAX_DIGITS - MIN_DIGITS + 1) * 4;
+
+    // 설정 조합별 지연 생성 캐시 (동시에 두 번 만들어져도 결과가 같으므로 무해)
+    private static final AtomicReferenceArray<CodeSpace> CACHE = new AtomicReferenceArray<>(SLOT_COUNT);
+
+    private final int slot;
+    private final int digits;
+    private final boolean allowZero;
+    private final boolean allowDuplicate;
+
+    private final int[] values;      // id -> 십진수 값
+    private final int[] nibbles;     // id -> 자리별 숫자를 4비트씩 패킹 (첫 자리가 최상위)
+    private final int[] masks;       // id -> 사용된 숫자 비트마스크
+    private final long[] counts;     // id -> 숫자별 개수 (4비트씩), 중복 허용일 때만 사용
+    private final int[] idByValue;   // 십진수 값 -> id, 유효하지 않으면 -1
+
+    private CodeSpace(int slot, int digits, boolean allowZero, boolean allowDuplicate) {
+        this.slot = slot;
+        this.digits = digits;
+        this.allowZero = allowZero;
+        this.allowDuplicate = allowDuplicate;
+
+        int limit = pow10(digits);
+        this.idByValue = new int[limit];
+
+        int size = 0;
+        for (int value = 0; value < limit; value++) {
+            idByValue[value] = isValidValue(value) ? size++ : -1;
+        }
+
+        this.values = new int[size];
+        this.nibbles = new int[size];
+        this.masks = new int[size];
+        this.counts = allowDuplicate ? new long[size] : null;
+
+        for (int value = 0; value < limit; value++) {
+            int id = idByValue[value];
+            if (id < 0) {
+                continue;
+            }
+            values[id] = value;
+
+            int nibble = 0;
+            int mask = 0;
+            long count = 0L;
+            int divisor = limit / 10;
+            for (int i = 0; i < digits; i++) {
+                int d = (value / divisor) % 10;
+                nibble = (nibble << 4) | d;
+                mask |= 1 << d;
+                count += 1L << (d << 2);
+                divisor /= 10;
+            }
+            nibbles[id] = nibble;
+            masks[id] = mask;
+            if (counts != null) {
+                counts[id] = count;
+            }
+        }
+    }
+
+    /**
+     * 게임 설정에 해당하는 코드 색인 조회 (최초 호출 시 생성)
+     * @param settings 게임 설정
+     * @return 공유 코드 색인
+     * @throws IllegalArgumentException 지원하지 않는 자릿수
+     */
+    public static CodeSpace of(GameSettings settings) {
+        return of(settings.getDigits(), settings.isAllowZero(), settings.isAllowDuplicate());
+    }
+
+    public static CodeSpace of(int digits, boolean allowZero, boolean allowDuplicate) {
+        if (!supports(digits)) {
+            throw new IllegalArgumentException("지원하지 않는 자릿수입니다: " + digits);
+        }
+
+        int slot = ((digits - MIN_DIGITS) << 2) | (allowZero ? 2 : 0) | (allowDuplicate ? 1 : 0);
+        CodeSpace space = CACHE.get(slot);
+        if (space == null) {
+            space = new CodeSpace(slot, digits, allowZero, allowDuplicate);
+            if (!CACHE.compareAndSet(slot, null, space)) {
+                space = CACHE.get(slot);
+            }
+        }
+        return space;
+    }
+
+    /**
+     * 지원하는 자릿수인지 확인
+     */
+    public static boolean supports(int digits) {
+        return digits >= MIN_DIGITS && digits <= MAX_DIGITS;
+    }
+
+    /**
+     * 코드 문자열의 id 조회 (정규식/컬렉션 없이 한 번의 배열 조회)
+     * @param code 코드 문자열
+     * @return id, 유효하지 않은 코드면 -1
+     */
+    public int idOf(CharSequence code) {
+        if (code == null || code.length() != digits) {
+            return -1;
+        }
+
+        int value = 0;
+        for (int i = 0; i < digits; i++) {
+            int d = code.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return idByValue[value];
+    }
+
+    /**
+     * 유효한 코드인지 확인
+     */
+    public boolean contains(CharSequence code) {
+        return idOf(code) >= 0;
+    }
+
+    /**
+     * id에 해당하는 코드 문자열
+     */
+    public String codeOf(int id) {
+        return Integer.toString(values[id]);
+    }
+
+    /**
+     * 두 코드 id 간 판정 (결과는 {@link JudgeResult} 형식)
+     * @param guessId 추측 코드 id
+     * @param answerId 정답 코드 id
+     */
+    @Override
+    public int judge(int guessId, int answerId) {
+        // 같은 자리의 숫자가 같으면 XOR 결과의 해당 니블이 0
+        int diff = nibbles[guessId] ^ nibbles[answerId];
+        int strikes = 0;
+        for (int i = 0; i < digits; i++) {
+            if ((diff & 0xF) == 0) {
+                strikes++;
+            }
+            diff >>>= 4;
+        }
+
+        int common;
+        if (counts == null) {
+            common = Integer.bitCount(masks[guessId] & masks[answerId]);
+        } else {
+            common = sumOfMinCounts(counts[guessId], counts[answerId], masks[guessId] & masks[answerId]);
+        }
+        return JudgeResult.of(strikes, common - strikes);
+    }
+
+    private static int sumOfMinCounts(long guessCounts, long answerCounts, int commonMask) {
+        int sum = 0;
+        while (commonMask != 0) {
+            int shift = Integer.numberOfTrailingZeros(commonMask) << 2;
+            sum += (int) Math.min((guessCounts >>> shift) & 0xF, (answerCounts >>> shift) & 0xF);
+            commonMask &= commonMask - 1;
+        }
+        return sum;
+    }
+
+    private boolean isValidValue(int value) {
+        int seen = 0;
+        int divisor = pow10(digits - 1);
+        for (int i = 0; i < digits; i++) {
+            int d = (value / divisor) % 10;
+            if (d == 0 && (i == 0 || !allowZero)) {
+                return false;
+            }
+            if (!allowDuplicate && (seen & (1 << d)) != 0) {
+                return false;
+            }
+            seen |= 1 << d;
+            divisor /= 10;
+        }
+        return true;
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    @Override
+    public CodeSpace space() {
+        return this;
+    }
+
+    // === Getters ===
+
+    /**
+     * 설정 조합별 고유 번호 (0 ~ {@link #slotCount()} - 1)
+     */
+    public int slot() {
+        return slot;
+    }
+
+    public static int slotCount() {
+        return SLOT_COUNT;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public int getDigits() {
+        return digits;
+    }
+
+    public boolean isAllowZero() {
+        return allowZero;
+    }
+
+    public boolean isAllowDuplicate() {
+        return allowDuplicate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CodeSpace{digits=%d, allowZero=%s, allowDuplicate=%s, size=%d}",
+                digits, allowZero, allowDuplicate, size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.couple.numberbaseball.engine;
+
+import java.util.stream.IntStream;
+
+/**
+ * 추측 x 정답 전체 판정 결과를 미리 계산해 둔 행렬
+ * - 칸마다 1바이트 ({@link JudgeResult} 값이 한 바이트에 들어감)
+ * - 3자리 0 미포함 중복 불가: 504^2 ≈ 250KB, 4자리 0 미포함 중복 불가: 3024^2 ≈ 9MB
+ * - 판정이 배열 한 번 읽기로 끝남
+ */
+public final class JudgeMatrix implements JudgeTable {
+
+    private final CodeSpace space;
+    private final int size;
+    private final byte[] cells;
+
+    private JudgeMatrix(CodeSpace space) {
+        this.space = space;
+        this.size = space.size();
+        this.cells = new byte[size * size];
+
+        // 행(추측) 단위로 병렬 계산
+        IntStream.range(0, size).parallel().forEach(guessId -> {
+            int offset = guessId * size;
+            for (int answerId = 0; answerId < size; answerId++) {
+                cells[offset + answerId] = (byte) space.judge(guessId, answerId);
+            }
+        });
+    }
+
+    /**
+     * 코드 색인 전체에 대한 판정 행렬 생성
+     * @throws IllegalArgumentException 행렬이 배열 하나에 담기지 않을 만큼 큰 경우
+     */
+    public static JudgeMatrix build(CodeSpace space) {
+        if (requiredBytes(space) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("판정 행렬이 너무 큽니다: " + space);
+        }
+        return new JudgeMatrix(space);
+    }
+
+    /**
+     * 행렬에 필요한 메모리 (바이트)
+     */
+    public static long requiredBytes(CodeSpace space) {
+        return (long) space.size() * space.size();
+    }
+
+    @Override
+    public int judge(int guessId, int answerId) {
+        return cells[guessId * size + answerId];
+    }
+
+    @Override
+    public CodeSpace space() {
+        return space;
+    }
+
+    public long sizeInBytes() {
+        return cells.length;
+    }
+}
@@ -0,0 +1,77 @@
+package com.couple.numberbaseball.engine;
+
+/**
+ * 판정 결과 (스트라이크/볼) 를 int 하나에 담아 다루는 유틸리티
+ * - 하위 4비트: 볼 개수, 그 위 4비트: 스트라이크 개수
+ * - 한 바이트 안에 들어가므로 판정 테이블에도 그대로 저장 가능
+ * - "1S 2B" 형태의 문자열은 전송 직전에만 만든다
+ */
+public final class JudgeResult {
+
+    /** 지원하는 최대 자릿수 */
+    public static final int MAX_DIGITS = 5;
+
+    private static final int BALL_MASK = 0x0F;
+    private static final int STRIKE_SHIFT = 4;
+
+    // [strikes][balls] -> 미리 만들어 둔 결과 문자열
+    private static final String[][] FORMATTED = new String[MAX_DIGITS + 1][MAX_DIGITS + 1];
+
+    static {
+        for (int s = 0; s <= MAX_DIGITS; s++) {
+            for (int b = 0; b <= MAX_DIGITS; b++) {
+                FORMATTED[s][b] = buildFormat(s, b);
+            }
+        }
+    }
+
+    private JudgeResult() {}
+
+    /**
+     * 스트라이크/볼 개수를 하나의 int로 패킹
+     */
+    public static int of(int strikes, int balls) {
+        return (strikes << STRIKE_SHIFT) | balls;
+    }
+
+    public static int strikes(int result) {
+        return result >>> STRIKE_SHIFT;
+    }
+
+    public static int balls(int result) {
+        return result & BALL_MASK;
+    }
+
+    /**
+     * 모든 자리가 스트라이크인지 (승리) 확인
+     */
+    public static boolean isWin(int result, int digits) {
+        return strikes(result) == digits;
+    }
+
+    /**
+     * 패킹된 결과를 "1S 2B", "3S", "OUT" 형태로 변환 (미리 만든 문자열 재사용)
+     */
+    public static String format(int result) {
+        return FORMATTED[strikes(result)][balls(result)];
+    }
+
+    private static String buildFormat(int strikes, int balls) {
+        if (strikes == 0 && balls == 0) {
+            return "OUT";
+        }
+
+        StringBuilder result = new StringBuilder();
+        if (strikes > 0) {
+            result.append(strikes).append("S");
+        }
+        if (balls > 0) {
+            if (result.length() > 0) {
+                result.append(" ");
+            }
+            result.append(balls).append("B");
+        }
+
+        return result.toString();
+    }
+}
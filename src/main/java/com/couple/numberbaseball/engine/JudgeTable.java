@@ -0,0 +1,21 @@
+package com.couple.numberbaseball.engine;
+
+/**
+ * 코드 id 두 개로 판정 결과를 얻는 테이블
+ * - {@link CodeSpace}: 매번 계산
+ * - {@link JudgeMatrix}: 미리 계산된 행렬에서 조회
+ */
+public interface JudgeTable {
+
+    /**
+     * @param guessId 추측 코드 id
+     * @param answerId 정답 코드 id
+     * @return {@link JudgeResult} 형식의 판정 결과
+     */
+    int judge(int guessId, int answerId);
+
+    /**
+     * 이 테이블이 사용하는 코드 색인
+     */
+    CodeSpace space();
+}
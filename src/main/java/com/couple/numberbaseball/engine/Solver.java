@@ -0,0 +1,104 @@
+package com.couple.numberbaseball.engine;
+
+import java.util.stream.IntStream;
+
+/**
+ * 다음 추측 추천 (Knuth 방식 minimax)
+ * - 모든 계산은 코드 id(int) 위에서 ForkJoin 공통 풀 병렬 스트림으로 수행
+ * - 추측 x 후보 판정 횟수를 {@link #WORK_LIMIT} 이하로 제한하여
+ *   4자리 게임에서도 메시지 처리 스레드에서 바로 실행 가능한 수준 (수십 ms 이내) 유지
+ */
+public final class Solver {
+
+    /** 추천 한 번에 수행할 최대 판정 횟수 */
+    public static final long WORK_LIMIT = 4_000_000L;
+
+    // JudgeResult 최대값 (5S 5B) + 1
+    private static final int RESULT_SLOTS = JudgeResult.of(JudgeResult.MAX_DIGITS, JudgeResult.MAX_DIGITS) + 1;
+
+    // 점수에서 추측 id 칸 (17비트)
+    private static final long ID_MASK = (1L << 17) - 1;
+
+    private Solver() {}
+
+    /**
+     * 최악의 경우 남는 후보 수가 가장 적은 추측 선택
+     * - 동점이면 후보 수 제곱합(기대 크기)이 작은 것, 그다음 후보에 속한 추측(바로 맞힐 수 있음) 우선
+     * - 전체 코드를 추측으로 평가하면 작업량이 한도를 넘는 경우 후보 중 일부를 고르게 뽑아 평가
+     * @param table 판정 테이블
+     * @param candidates 후보 정답 id (오름차순)
+     * @return 추천 추측 결과, 후보가 없으면 null
+     */
+    public static Suggestion suggest(JudgeTable table, int[] candidates) {
+        if (candidates.length == 0) {
+            return null;
+        }
+        if (candidates.length <= 2) {
+            return new Suggestion(candidates[0], 1, candidates.length);
+        }
+
+        int universe = table.space().size();
+        int[] pool;
+        if ((long) universe * candidates.length <= WORK_LIMIT) {
+            pool = null; // 전체 코드를 추측 후보로 사용
+        } else {
+            int poolSize = (int) Math.max(1, Math.min(candidates.length, WORK_LIMIT / candidates.length));
+            pool = new int[poolSize];
+            double stride = (double) candidates.length / poolSize;
+            for (int i = 0; i < poolSize; i++) {
+                pool[i] = candidates[(int) (i * stride)];
+            }
+        }
+
+        int poolLength = pool == null ? universe : pool.length;
+        long best = IntStream.range(0, poolLength)
+                .parallel()
+                .mapToLong(index -> score(table, pool == null ? index : pool[index], candidates))
+                .min()
+                .getAsLong();
+
+        int guessId = (int) (best & ID_MASK);
+        int worstCase = (int) (best >>> 35);
+        return new Suggestion(guessId, worstCase, candidates.length);
+    }
+
+    /**
+     * 추측 하나의 점수를 비교 가능한 long으로 패킹
+     * [최악 후보 수 17비트][기대 크기 17비트][후보 아님 1비트][추측 id 17비트]
+     * - 세 값 모두 코드 수(최대 90000 < 2^17) 이하이므로 잘리지 않음
+     */
+    private static long score(JudgeTable table, int guessId, int[] candidates) {
+        int[] partition = new int[RESULT_SLOTS];
+        boolean isCandidate = false;
+        for (int answerId : candidates) {
+            partition[table.judge(guessId, answerId)]++;
+            if (answerId == guessId) {
+                isCandidate = true;
+            }
+        }
+
+        long worst = 0;
+        long sumOfSquares = 0;
+        for (int size : partition) {
+            if (size > worst) {
+                worst = size;
+            }
+            sumOfSquares += (long) size * size;
+        }
+
+        // 제곱합은 후보 수로 나눠 기대 크기 근사값으로 사용 (최악 후보 수 이하)
+        long expected = sumOfSquares / candidates.length;
+        return (worst << 35)
+                | (expected << 18)
+                | ((isCandidate ? 0L : 1L) << 17)
+                | guessId;
+    }
+
+    /**
+     * 추천 결과
+     * @param guessId 추천 추측 코드 id
+     * @param worstCaseRemaining 추천 추측 후 최악의 경우 남는 후보 수
+     * @param remainingCandidates 현재 남은 후보 수
+     */
+    public record Suggestion(int guessId, int worstCaseRemaining, int remainingCandidates) {}
+}
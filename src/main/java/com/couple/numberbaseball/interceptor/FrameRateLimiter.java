@@ -0,0 +1,106 @@
+package com.couple.numberbaseball.interceptor;
+
+import com.couple.numberbaseball.util.GameClock;
+import com.couple.numberbaseball.util.TokenBucket;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * STOMP SEND 프레임 속도 제한
+ * - 플레이어 세션마다, WebSocket 연결마다 토큰 버킷 하나씩 (둘 다 통과해야 허용)
+ * - 버킷은 락 없는 CAS 카운터, 오래 쓰지 않은 버킷은 주기적으로 정리
+ */
+@Component
+public class FrameRateLimiter {
+
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ConcurrentHashMap<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> connectionBuckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    private GameClock clock;
+
+    @Value("${game.websocket.rate-limit.session-frames-per-second:5}")
+    private double sessionRate;
+
+    @Value("${game.websocket.rate-limit.session-burst:10}")
+    private int sessionBurst;
+
+    @Value("${game.websocket.rate-limit.connection-frames-per-second:10}")
+    private double connectionRate;
+
+    @Value("${game.websocket.rate-limit.connection-burst:20}")
+    private int connectionBurst;
+
+    // 지표
+    private final AtomicLong throttledBySession = new AtomicLong();
+    private final AtomicLong throttledByConnection = new AtomicLong();
+
+    /**
+     * 프레임 하나 허용 여부
+     * @param connectionId WebSocket 연결 ID (없으면 생략)
+     * @param playerSessionId 플레이어 세션 ID (없으면 생략)
+     * @return 한도를 넘으면 false
+     */
+    public boolean tryAcquire(String connectionId, String playerSessionId) {
+        long now = clock.nanos();
+
+        if (connectionId != null) {
+            TokenBucket bucket = connectionBuckets.computeIfAbsent(connectionId,
+                    id -> new TokenBucket(connectionRate, connectionBurst, now));
+            if (!bucket.tryAcquire(now)) {
+                throttledByConnection.incrementAndGet();
+                return false;
+            }
+        }
+
+        if (playerSessionId != null) {
+            TokenBucket bucket = sessionBuckets.computeIfAbsent(playerSessionId,
+                    id -> new TokenBucket(sessionRate, sessionBurst, now));
+            if (!bucket.tryAcquire(now)) {
+                throttledBySession.incrementAndGet();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 연결 종료 시 연결 버킷 제거
+     */
+    public void onDisconnect(String connectionId) {
+        if (connectionId != null) {
+            connectionBuckets.remove(connectionId);
+        }
+    }
+
+    /**
+     * 오래 사용하지 않은 (가득 찬) 버킷 정리
+     * @return 정리된 버킷 수
+     */
+    public int removeIdleBuckets() {
+        long now = clock.nanos();
+        int before = sessionBuckets.size() + connectionBuckets.size();
+        sessionBuckets.values().removeIf(bucket -> bucket.isIdle(now, IDLE_NANOS));
+        connectionBuckets.values().removeIf(bucket -> bucket.isIdle(now, IDLE_NANOS));
+        return before - (sessionBuckets.size() + connectionBuckets.size());
+    }
+
+    public long getThrottledBySessionCount() {
+        return throttledBySession.get();
+    }
+
+    public long getThrottledByConnectionCount() {
+        return throttledByConnection.get();
+    }
+
+    public int getTrackedBucketCount() {
+        return sessionBuckets.size() + connectionBuckets.size();
+    }
+}
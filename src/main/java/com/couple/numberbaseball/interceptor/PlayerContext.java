@@ -0,0 +1,51 @@
+package com.couple.numberbaseball.interceptor;
+
+import java.util.Map;
+
+/**
+ * WebSocket 연결 하나에 묶인 플레이어 정보
+ * - CONNECT 시 인터셉터가 세션을 한 번 검증하고 STOMP 세션 속성에 저장
+ * - 이후 프레임은 속성에서 꺼내 쓰므로 세션 조회를 반복하지 않음
+ */
+public class PlayerContext {
+
+    /** STOMP 세션 속성 키 */
+    public static final String ATTRIBUTE = "playerContext";
+
+    private final String playerSessionId;
+    private volatile String roomCode;   // 방을 옮기면 갱신
+
+    public PlayerContext(String playerSessionId, String roomCode) {
+        this.playerSessionId = playerSessionId;
+        this.roomCode = roomCode;
+    }
+
+    /**
+     * STOMP 세션 속성에서 플레이어 정보 조회
+     * @return 검증된 플레이어 정보, 없으면 null
+     */
+    public static PlayerContext from(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object context = sessionAttributes.get(ATTRIBUTE);
+        return context instanceof PlayerContext ? (PlayerContext) context : null;
+    }
+
+    public String getPlayerSessionId() {
+        return playerSessionId;
+    }
+
+    public String getRoomCode() {
+        return roomCode;
+    }
+
+    public void setRoomCode(String roomCode) {
+        this.roomCode = roomCode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PlayerContext{playerSessionId='%s', roomCode='%s'}", playerSessionId, roomCode);
+    }
+}
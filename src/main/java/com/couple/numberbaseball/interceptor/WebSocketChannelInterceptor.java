@@ -1,6 +1,10 @@
 package com.couple.numberbaseball.interceptor;
 
+import com.couple.numberbaseball.model.GameRoom;
 import com.couple.numberbaseball.service.GameRoomService;
+import com.couple.numberbaseball.service.SessionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.Message;
@@ -10,33 +14,79 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 @Component
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
+    private static final Logger log = LoggerFactory.getLogger(WebSocketChannelInterceptor.class);
+
+    private static final String PLAYER_SESSION_HEADER = "X-Player-Session-Id";
+
     private final GameRoomService gameRoomService;
+    private final SessionService sessionService;
+    private final FrameRateLimiter frameRateLimiter;
 
     // @Lazy 어노테이션을 사용하여 순환 참조를 해결합니다.
     @Autowired
-    public WebSocketChannelInterceptor(@Lazy GameRoomService gameRoomService) {
+    public WebSocketChannelInterceptor(@Lazy GameRoomService gameRoomService,
+                                       @Lazy SessionService sessionService,
+                                       FrameRateLimiter frameRateLimiter) {
         this.gameRoomService = gameRoomService;
+        this.sessionService = sessionService;
+        this.frameRateLimiter = frameRateLimiter;
     }
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        StompCommand command = accessor.getCommand();
 
-        // CONNECT 또는 SEND 요청일 때 세션 유효성 검사
-        if (StompCommand.CONNECT.equals(accessor.getCommand()) || StompCommand.SEND.equals(accessor.getCommand())) {
-            String sessionId = accessor.getFirstNativeHeader("X-Player-Session-Id");
+        if (StompCommand.DISCONNECT.equals(command)) {
+            frameRateLimiter.onDisconnect(accessor.getSessionId());
+            return message;
+        }
 
-            if (sessionId == null || gameRoomService.findRoomBySessionId(sessionId) == null) {
-                // 유효하지 않은 세션 ID일 경우 연결을 거부하거나 에러를 처리할 수 있습니다.
-                // 여기서는 간단히 로그만 남깁니다.
-                System.out.println("Invalid or missing session ID: " + sessionId);
-                // throw new IllegalArgumentException("Invalid session ID");
+        // CONNECT: 세션을 한 번 검증하고 결과를 연결 속성에 저장
+        if (StompCommand.CONNECT.equals(command)) {
+            if (authorize(accessor) == null) {
+                log.warn("유효하지 않은 세션으로 연결 시도: {}", accessor.getFirstNativeHeader(PLAYER_SESSION_HEADER));
+            }
+            return message;
+        }
+
+        if (StompCommand.SEND.equals(command)) {
+            // 연결 시 검증된 정보 사용 (CONNECT에 헤더가 없었던 연결만 여기서 한 번 검증)
+            PlayerContext context = PlayerContext.from(accessor.getSessionAttributes());
+            if (context == null) {
+                context = authorize(accessor);
+            }
+
+            // SEND 프레임 속도 제한: 한도를 넘으면 컨트롤러에 전달하지 않고 버림
+            // 세션 버킷은 검증된 플레이어만 (헤더 값을 바꿔 가며 새 버킷을 받지 못하도록), 나머지는 연결 버킷만 적용
+            String playerSessionId = context != null ? context.getPlayerSessionId() : null;
+            if (!frameRateLimiter.tryAcquire(accessor.getSessionId(), playerSessionId)) {
+                return null;
             }
         }
 
         return message;
     }
+
+    /**
+     * 헤더의 플레이어 세션을 검증하고 연결 속성에 플레이어 정보 저장
+     * @return 검증된 플레이어 정보, 유효하지 않으면 null
+     */
+    private PlayerContext authorize(StompHeaderAccessor accessor) {
+        String playerSessionId = accessor.getFirstNativeHeader(PLAYER_SESSION_HEADER);
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (playerSessionId == null || attributes == null || !sessionService.isValidSession(playerSessionId)) {
+            return null;
+        }
+
+        GameRoom room = gameRoomService.findRoomBySessionId(playerSessionId);
+        PlayerContext context = new PlayerContext(playerSessionId, room != null ? room.getRoomId() : null);
+        attributes.put(PlayerContext.ATTRIBUTE, context);
+        return context;
+    }
 }
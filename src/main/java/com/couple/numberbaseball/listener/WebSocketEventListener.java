@@ -2,21 +2,24 @@ package com.couple.numberbaseball.listener;
 
 import com.couple.numberbaseball.dto.websocket.*;
 import com.couple.numberbaseball.model.GameRoom;
-import com.couple.numberbaseball.model.GameTurn;
 import com.couple.numberbaseball.service.GameRoomService;
+import com.couple.numberbaseball.service.ReconnectionGraceService;
+import com.couple.numberbaseball.service.RoomBroadcaster;
+import com.couple.numberbaseball.service.RoomExecutor;
 import com.couple.numberbaseball.service.SessionService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket 연결 상태 관리 리스너
@@ -25,8 +28,10 @@ import java.util.concurrent.TimeUnit;
 @Component
 public class WebSocketEventListener {
 
+    private static final Logger log = LoggerFactory.getLogger(WebSocketEventListener.class);
+
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private RoomBroadcaster roomBroadcaster;
 
     @Autowired
     private GameRoomService gameRoomService;
@@ -34,16 +39,31 @@ public class WebSocketEventListener {
     @Autowired
     private SessionService sessionService;
 
+    @Autowired
+    private RoomExecutor roomExecutor;
+
     // WebSocket 세션 ID -> 플레이어 세션 ID 매핑
     private final ConcurrentHashMap<String, String> webSocketToPlayerSession = new ConcurrentHashMap<>();
 
-    // 연결이 끊어진 플레이어들의 재접속 대기 관리
-    private final ConcurrentHashMap<String, DisconnectedPlayer> disconnectedPlayers = new ConcurrentHashMap<>();
+    // 플레이어 세션 ID -> 살아 있는 WebSocket 연결 수 (없으면 연결 끊김)
+    // 유예 시작/취소는 이 맵의 compute 안에서 하므로, 같은 플레이어의 연결/끊김 이벤트와 항상 같은 순서로 일어남
+    private final ConcurrentHashMap<String, Integer> playerConnections = new ConcurrentHashMap<>();
 
-    // 재접속 타임아웃 관리용 스케줄러
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    // 연결이 끊어진 플레이어들의 재접속 유예 관리
+    @Autowired
+    private ReconnectionGraceService reconnectionGraceService;
 
-    private static final int RECONNECTION_TIMEOUT_MINUTES = 5;
+    /**
+     * 유예 시간이 지난 플레이어를 해당 방 레인에서 타임아웃 처리하도록 등록
+     */
+    @PostConstruct
+    public void registerGraceExpiryHandler() {
+        reconnectionGraceService.setExpiryHandler(gracePeriod -> {
+            String roomCode = gracePeriod.getRoomCode();
+            roomExecutor.execute(roomCode,
+                    () -> handleReconnectionTimeout(gracePeriod.getPlayerSessionId(), roomCode));
+        });
+    }
 
     /**
      * WebSocket 연결 이벤트 처리
@@ -54,20 +74,28 @@ public class WebSocketEventListener {
         String webSocketSessionId = headerAccessor.getSessionId();
 
         // 헤더에서 플레이어 세션 ID 추출
-        String playerSessionId = headerAccessor.getFirstNativeHeader("X-Player-Session-Id");
+        String playerSessionId = getConnectHeader(headerAccessor, "X-Player-Session-Id");
 
         if (playerSessionId != null && sessionService.isValidSession(playerSessionId)) {
             webSocketToPlayerSession.put(webSocketSessionId, playerSessionId);
 
-            // 재접속인지 확인
-            DisconnectedPlayer disconnectedPlayer = disconnectedPlayers.remove(playerSessionId);
-            if (disconnectedPlayer != null) {
-                handlePlayerReconnected(playerSessionId, disconnectedPlayer.getRoomCode());
+            // 재접속인지 확인 (연결 수 증가와 유예 취소를 한 번에)
+            ReconnectionGraceService.GracePeriod[] cancelled = new ReconnectionGraceService.GracePeriod[1];
+            playerConnections.compute(playerSessionId, (id, connections) -> {
+                cancelled[0] = reconnectionGraceService.cancel(id);
+                return connections == null ? 1 : connections + 1;
+            });
+
+            ReconnectionGraceService.GracePeriod gracePeriod = cancelled[0];
+            if (gracePeriod != null) {
+                String roomCode = gracePeriod.getRoomCode();
+                int sinceTurn = parseTurnCount(getConnectHeader(headerAccessor, "X-Last-Turn"));
+                roomExecutor.execute(roomCode, () -> handlePlayerReconnected(playerSessionId, roomCode, sinceTurn));
             } else {
                 handlePlayerConnected(playerSessionId);
             }
 
-            System.out.println("WebSocket 연결됨: " + webSocketSessionId + " -> 플레이어: " + playerSessionId);
+            log.info("WebSocket 연결됨: {} -> 플레이어: {}", webSocketSessionId, playerSessionId);
         }
     }
 
@@ -83,7 +111,7 @@ public class WebSocketEventListener {
 
         if (playerSessionId != null) {
             handlePlayerDisconnected(playerSessionId);
-            System.out.println("WebSocket 연결 끊김: " + webSocketSessionId + " -> 플레이어: " + playerSessionId);
+            log.info("WebSocket 연결 끊김: {} -> 플레이어: {}", webSocketSessionId, playerSessionId);
         }
     }
 
@@ -101,34 +129,53 @@ public class WebSocketEventListener {
                     "CONNECTED"
             );
 
-            broadcastToRoom(room.getRoomId(), WebSocketMessageType.PLAYER_CONNECTED, connectionPayload);
+            roomBroadcaster.broadcast(room.getRoomId(), WebSocketMessageType.PLAYER_CONNECTED, connectionPayload);
         }
     }
 
     /**
      * 플레이어 연결 끊김 처리
+     * - 같은 플레이어의 다른 연결이 살아 있으면 아무것도 하지 않음 (오래된 소켓의 늦은 끊김)
+     * - 진행 중인 게임이면 재접속 유예를 이벤트 스레드에서 바로 시작하고, 알림은 방 레인에서 전송
      */
     private void handlePlayerDisconnected(String playerSessionId) {
         GameRoom room = gameRoomService.findRoomBySessionId(playerSessionId);
-        if (room == null) {
-            return; // 방에 속해있지 않은 경우
+        boolean[] disconnected = new boolean[1];
+        playerConnections.compute(playerSessionId, (id, connections) -> {
+            if (connections != null && connections > 1) {
+                return connections - 1;
+            }
+            disconnected[0] = true;
+            if (room != null && room.getSnapshot().getStatus().isActive()) {
+                // 재접속 유예 시작 (같은 플레이어의 기존 유예 타이머는 대체됨)
+                reconnectionGraceService.startGrace(id, room.getRoomId());
+            }
+            return null;
+        });
+
+        if (!disconnected[0] || room == null) {
+            return; // 다른 연결이 남아 있거나 방에 속해있지 않은 경우
         }
 
-        // 게임이 활성 상태인 경우에만 재접속 대기 처리
-        if (room.getStatus().isActive()) {
-            // 재접속 대기 상태로 설정
-            DisconnectedPlayer disconnectedPlayer = new DisconnectedPlayer(
-                    playerSessionId,
-                    room.getRoomId(),
-                    System.currentTimeMillis()
-            );
-            disconnectedPlayers.put(playerSessionId, disconnectedPlayer);
+        // 방 상태 확인 및 변경은 방 레인에서 수행
+        String roomCode = room.getRoomId();
+        roomExecutor.execute(roomCode, () -> handlePlayerDisconnectedInLane(playerSessionId, roomCode));
+    }
 
-            // 재접속 타임아웃 스케줄링
-            scheduler.schedule(() -> {
-                handleReconnectionTimeout(playerSessionId);
-            }, RECONNECTION_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+    /**
+     * 플레이어 연결 끊김 처리 (방 레인 안에서 실행)
+     */
+    private void handlePlayerDisconnectedInLane(String playerSessionId, String roomCode) {
+        if (isConnected(playerSessionId)) {
+            return; // 그 사이 다시 연결됨
+        }
+        GameRoom room = gameRoomService.findRoomByCode(roomCode);
+        if (room == null || !room.isPlayerInRoom(playerSessionId)) {
+            return; // 그 사이 방이 삭제되었거나 방을 떠남
+        }
 
+        // 게임이 활성 상태인 경우에만 재접속 대기 처리 (유예는 이미 시작됨)
+        if (room.getStatus().isActive()) {
             // 연결 끊김 상태 브로드캐스트
             PlayerConnectionPayloadDto connectionPayload = new PlayerConnectionPayloadDto(
                     playerSessionId,
@@ -137,7 +184,7 @@ public class WebSocketEventListener {
                     "DISCONNECTED"
             );
 
-            broadcastToRoom(room.getRoomId(), WebSocketMessageType.PLAYER_DISCONNECTED, connectionPayload);
+            roomBroadcaster.broadcast(room.getRoomId(), WebSocketMessageType.PLAYER_DISCONNECTED, connectionPayload);
 
         } else {
             // 게임이 비활성 상태면 그냥 방에서 제거
@@ -146,9 +193,9 @@ public class WebSocketEventListener {
     }
 
     /**
-     * 플레이어 재접속 처리
+     * 플레이어 재접속 처리 (방 레인 안에서 실행)
      */
-    private void handlePlayerReconnected(String playerSessionId, String roomCode) {
+    private void handlePlayerReconnected(String playerSessionId, String roomCode, int sinceTurn) {
         GameRoom room = gameRoomService.findRoomByCode(roomCode);
         if (room != null && room.isPlayerInRoom(playerSessionId)) {
             // 재접속 성공 브로드캐스트
@@ -159,24 +206,25 @@ public class WebSocketEventListener {
                     "RECONNECTED"
             );
 
-            broadcastToRoom(roomCode, WebSocketMessageType.PLAYER_CONNECTED, connectionPayload);
+            roomBroadcaster.broadcast(roomCode, WebSocketMessageType.PLAYER_CONNECTED, connectionPayload);
 
-            // 현재 게임 상태를 재접속한 플레이어에게 전송
-            sendGameStateToPlayer(playerSessionId, room);
+            // 현재 게임 상태와 놓친 기록을 재접속한 플레이어에게 메시지 하나로 전송
+            roomBroadcaster.sendToUser(playerSessionId, "/queue/game-state", WebSocketMessageType.GAME_SNAPSHOT,
+                    GameSnapshotPayloadDto.fromRoom(room, sinceTurn));
         }
     }
 
     /**
-     * 재접속 타임아웃 처리
+     * 재접속 타임아웃 처리 (방 레인 안에서 실행)
      */
-    private void handleReconnectionTimeout(String playerSessionId) {
-        DisconnectedPlayer disconnectedPlayer = disconnectedPlayers.remove(playerSessionId);
-        if (disconnectedPlayer == null) {
-            return; // 이미 재접속했거나 처리됨
+    private void handleReconnectionTimeout(String playerSessionId, String roomCode) {
+        if (isConnected(playerSessionId)) {
+            return; // 유예가 만료된 뒤 레인 작업이 실행되기 전에 다시 연결됨
         }
 
-        GameRoom room = gameRoomService.findRoomByCode(disconnectedPlayer.getRoomCode());
-        if (room != null) {
+        GameRoom room = gameRoomService.findRoomByCode(roomCode);
+        // 아직 진행 중인 게임만 포기 처리 (이미 끝난 게임의 결과는 덮어쓰지 않음)
+        if (room != null && room.isPlayerInRoom(playerSessionId) && room.getStatus().isActive()) {
             // 상대방 찾기
             String opponentSessionId = playerSessionId.equals(room.getCreatorSessionId()) ?
                     room.getJoinerSessionId() : room.getCreatorSessionId();
@@ -192,7 +240,7 @@ public class WebSocketEventListener {
                     room.getHistory()
             );
 
-            broadcastToRoom(room.getRoomId(), WebSocketMessageType.GAME_FINISHED, finishPayload);
+            roomBroadcaster.broadcast(room.getRoomId(), WebSocketMessageType.GAME_FINISHED, finishPayload);
         }
 
         // 세션 정리
@@ -200,74 +248,37 @@ public class WebSocketEventListener {
     }
 
     /**
-     * 현재 게임 상태를 특정 플레이어에게 전송
-     */
-    private void sendGameStateToPlayer(String playerSessionId, GameRoom room) {
-        // 게임 상태 정보 생성
-        StateChangePayloadDto statePayload = new StateChangePayloadDto(
-                room.getStatus(),
-                room.getCurrentTurn(),
-                room.getRoomId(),
-                room.isCreatorReady(),
-                room.isJoinerReady()
-        );
-
-        WebSocketMessageDto<StateChangePayloadDto> message =
-                new WebSocketMessageDto<>(WebSocketMessageType.STATE_CHANGE, statePayload);
-
-        messagingTemplate.convertAndSendToUser(playerSessionId, "/queue/game-state", message);
-
-        // 게임 기록도 전송 (게임 진행 중인 경우)
-        if (room.getStatus().isActive() && !room.getHistory().isEmpty()) {
-            for (GameTurn turn : room.getHistory()) {
-                NewGuessPayloadDto guessPayload = NewGuessPayloadDto.fromGameTurn(turn, room.getCurrentTurn());
-                WebSocketMessageDto<NewGuessPayloadDto> turnMessage =
-                        new WebSocketMessageDto<>(WebSocketMessageType.NEW_GUESS, guessPayload);
-
-                messagingTemplate.convertAndSendToUser(playerSessionId, "/queue/game-history", turnMessage);
-            }
-        }
-    }
-
-    /**
-     * 방의 모든 플레이어에게 메시지 브로드캐스트
+     * 플레이어의 WebSocket 연결이 하나라도 살아 있는지 확인
      */
-    private <T> void broadcastToRoom(String roomCode, WebSocketMessageType messageType, T payload) {
-        WebSocketMessageDto<T> message = new WebSocketMessageDto<>(messageType, payload);
-        messagingTemplate.convertAndSend("/topic/game/" + roomCode + "/sync", message);
+    private boolean isConnected(String playerSessionId) {
+        return playerConnections.containsKey(playerSessionId);
     }
 
     /**
-     * 연결이 끊어진 플레이어 정보 클래스
+     * CONNECT 프레임의 헤더 값 (연결 완료 이벤트는 원래 CONNECT 메시지를 헤더에 담고 있음)
      */
-    private static class DisconnectedPlayer {
-        private final String playerSessionId;
-        private final String roomCode;
-        private final long disconnectedAt;
-
-        public DisconnectedPlayer(String playerSessionId, String roomCode, long disconnectedAt) {
-            this.playerSessionId = playerSessionId;
-            this.roomCode = roomCode;
-            this.disconnectedAt = disconnectedAt;
+    private String getConnectHeader(StompHeaderAccessor headerAccessor, String name) {
+        Object connectMessage = headerAccessor.getHeader(SimpMessageHeaderAccessor.CONNECT_MESSAGE_HEADER);
+        if (connectMessage instanceof Message) {
+            String value = StompHeaderAccessor.wrap((Message<?>) connectMessage).getFirstNativeHeader(name);
+            if (value != null) {
+                return value;
+            }
         }
-
-        public String getPlayerSessionId() { return playerSessionId; }
-        public String getRoomCode() { return roomCode; }
-        public long getDisconnectedAt() { return disconnectedAt; }
+        return headerAccessor.getFirstNativeHeader(name);
     }
 
     /**
-     * 리소스 정리 (애플리케이션 종료시)
+     * 클라이언트가 이미 가진 턴 수 (없거나 잘못된 값이면 0 = 전체 기록)
      */
-    public void shutdown() {
-        scheduler.shutdown();
+    private static int parseTurnCount(String value) {
+        if (value == null) {
+            return 0;
+        }
         try {
-            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                scheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            scheduler.shutdownNow();
-            Thread.currentThread().interrupt();
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException e) {
+            return 0;
         }
     }
-}
\ No newline at end of file
+}
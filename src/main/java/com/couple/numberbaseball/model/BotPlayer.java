@@ -0,0 +1,22 @@
+package com.couple.numberbaseball.model;
+
+/**
+ * 서버 AI 상대 정보
+ * 게임 방의 참가자 자리를 대신하며, 정답 후보는 방이 플레이어별로 관리하는 후보 집합을 그대로 사용
+ */
+public class BotPlayer {
+    private final String sessionId;          // 봇의 세션 ID (참가자 자리에 사용)
+
+    public BotPlayer(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BotPlayer{sessionId='%s'}", sessionId);
+    }
+}
@@ -1,7 +1,15 @@
 package com.couple.numberbaseball.model;
 
+import com.couple.numberbaseball.engine.CandidateSet;
+import com.couple.numberbaseball.engine.CandidateView;
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeResult;
+import com.couple.numberbaseball.engine.JudgeTable;
+import com.couple.numberbaseball.util.GameClock;
+
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.ZoneId;
 import java.util.List;
 
 /**
@@ -19,26 +27,48 @@ public class GameRoom {
     private String joinerAnswer;        // 참가자의 정답 숫자
     private String currentTurn;         // 현재 질문할 플레이어의 세션 ID
 
-    private List<GameTurn> history;     // 전체 질문/판정 기록
-    private LocalDateTime createdAt;    // 방 생성 시간
-    private LocalDateTime lastActivity; // 마지막 활동 시간
+    private final GameClock clock;      // 활동 시간 기록용 시계
+    private final TurnLog history;      // 전체 질문/판정 기록 (턴당 long 하나로 압축)
+    private final long createdAtMillis; // 방 생성 시간 (epoch 밀리초)
+    private long lastActivityMillis;    // 마지막 활동 시간 (만료 판정용, epoch 밀리초)
 
     // 준비 상태 관리
     private boolean creatorReady;       // 방장 준비 상태
     private boolean joinerReady;        // 참가자 준비 상태
 
+    private BotPlayer bot;              // AI 상대 (1인 모드일 때만, 참가자 자리를 차지)
+
+    // 플레이어별 상대 정답 후보 (추측할 때마다 점진적으로 좁혀짐, 처음 필요할 때 생성)
+    // 메모리: 플레이어당 코드 수 / 8 바이트 (4자리 0 미포함 중복 불가 378B, 최대 5자리 90000개 약 11KB)
+    private CandidateSet creatorCandidates;
+    private CandidateSet joinerCandidates;
+
+    // 락 없이 읽을 수 있는 최신 상태 스냅샷 (변경과 게시는 방 레인 한 곳에서만, 읽기는 어디서나)
+    private volatile GameRoomSnapshot snapshot;
+
     public GameRoom() {
-        this.history = new ArrayList<>();
-        this.createdAt = LocalDateTime.now();
-        this.lastActivity = LocalDateTime.now();
+        this(GameClock.SYSTEM);
+    }
+
+    private GameRoom(GameClock clock) {
+        this.clock = clock;
+        this.history = new TurnLog(clock);
+        this.createdAtMillis = clock.millis();
+        this.lastActivityMillis = createdAtMillis;
         this.status = GameStatus.WAITING_FOR_JOINER;
+        publishSnapshot();
     }
 
     public GameRoom(String roomId, String creatorSessionId, GameSettings settings) {
-        this();
+        this(roomId, creatorSessionId, settings, GameClock.SYSTEM);
+    }
+
+    public GameRoom(String roomId, String creatorSessionId, GameSettings settings, GameClock clock) {
+        this(clock);
         this.roomId = roomId;
         this.creatorSessionId = creatorSessionId;
         this.settings = settings;
+        publishSnapshot();
     }
 
     // === 게임 로직 메서드 ===
@@ -53,6 +83,7 @@ public class GameRoom {
         this.joinerSessionId = joinerSessionId;
         this.status = GameStatus.WAITING_FOR_READY;
         updateActivity();
+        publishSnapshot();
         return true;
     }
 
@@ -71,6 +102,7 @@ public class GameRoom {
             this.status = GameStatus.SETTING_ANSWERS;
         }
         updateActivity();
+        publishSnapshot();
     }
 
     /**
@@ -79,8 +111,10 @@ public class GameRoom {
     public void setPlayerAnswer(String sessionId, String answer) {
         if (creatorSessionId.equals(sessionId)) {
             this.creatorAnswer = answer;
+            this.joinerCandidates = null; // 참가자가 좁혀 온 방장 정답 후보는 더 이상 맞지 않음
         } else if (joinerSessionId != null && joinerSessionId.equals(sessionId)) {
             this.joinerAnswer = answer;
+            this.creatorCandidates = null; // 방장이 좁혀 온 참가자 정답 후보는 더 이상 맞지 않음
         }
 
         // 둘 다 정답 설정하면 게임 시작
@@ -89,18 +123,21 @@ public class GameRoom {
             this.currentTurn = creatorSessionId; // 방장이 선공
         }
         updateActivity();
+        publishSnapshot();
     }
 
     /**
-     * 게임 턴 추가
+     * 게임 턴 추가 (패킹된 판정 결과)
+     * 추측한 플레이어의 후보 집합도 이 판정 결과로 좁힘
+     * @param judgeTable 후보 갱신에 쓸 판정 테이블 (호출 시점에 조회한 것, null이면 코드 색인 계산)
      */
-    public void addTurn(String guesserSessionId, String guess, String result) {
-        int turnNumber = history.size() + 1;
-        GameTurn turn = new GameTurn(turnNumber, guesserSessionId, guess, result);
-        history.add(turn);
+    public void addTurn(String guesserSessionId, String guess, int judgeResult, JudgeTable judgeTable) {
+        history.append(CodeSpace.of(settings), guesserSessionId, guess, judgeResult);
+
+        narrowCandidates(guesserSessionId, guess, judgeResult, judgeTable);
 
         // 승리 확인
-        if (turn.isWinningTurn(settings.getDigits())) {
+        if (JudgeResult.isWin(judgeResult, settings.getDigits())) {
             this.status = GameStatus.FINISHED;
             this.currentTurn = null;
         } else {
@@ -108,6 +145,45 @@ public class GameRoom {
             switchTurn();
         }
         updateActivity();
+        publishSnapshot();
+    }
+
+    /**
+     * 추측 하나의 판정 결과로 해당 플레이어의 후보 집합 갱신 (코드 수에 비례, 기록 길이와 무관)
+     */
+    private void narrowCandidates(String guesserSessionId, String guess, int judgeResult, JudgeTable judgeTable) {
+        CandidateSet candidates = candidatesOf(guesserSessionId);
+        if (candidates == null || judgeResult < 0) {
+            return;
+        }
+
+        int guessId = candidates.space().idOf(guess);
+        if (guessId >= 0) {
+            JudgeTable table = judgeTable != null ? judgeTable : candidates.space();
+            candidates.retain(table, guessId, judgeResult);
+        }
+    }
+
+    /**
+     * 플레이어의 후보 집합 (없으면 생성), 방의 플레이어가 아니거나 지원하지 않는 설정이면 null
+     */
+    private CandidateSet candidatesOf(String sessionId) {
+        if (settings == null || !CodeSpace.supports(settings.getDigits())) {
+            return null;
+        }
+        if (creatorSessionId.equals(sessionId)) {
+            if (creatorCandidates == null) {
+                creatorCandidates = CandidateSet.all(CodeSpace.of(settings));
+            }
+            return creatorCandidates;
+        }
+        if (joinerSessionId != null && joinerSessionId.equals(sessionId)) {
+            if (joinerCandidates == null) {
+                joinerCandidates = CandidateSet.all(CodeSpace.of(settings));
+            }
+            return joinerCandidates;
+        }
+        return null;
     }
 
     /**
@@ -128,6 +204,7 @@ public class GameRoom {
         this.status = GameStatus.ABANDONED;
         this.currentTurn = null;
         updateActivity();
+        publishSnapshot();
     }
 
     /**
@@ -145,11 +222,54 @@ public class GameRoom {
         return sessionId.equals(currentTurn);
     }
 
+    /**
+     * 플레이어가 지금까지의 판정으로 좁힌 상대 정답 후보 (읽기 전용)
+     * @param sessionId 플레이어 세션 ID
+     * @return 후보 뷰, 방의 플레이어가 아니면 null
+     */
+    public CandidateView getCandidates(String sessionId) {
+        return candidatesOf(sessionId);
+    }
+
+    /**
+     * AI 상대와 하는 게임인지 확인
+     */
+    public boolean isBotGame() {
+        return bot != null;
+    }
+
+    /**
+     * 현재 상태로 새 버전의 스냅샷 게시 (상태를 바꾸는 모든 메서드의 마지막 단계)
+     * 쓰는 쪽은 방 레인 하나뿐이므로 volatile 쓰기 한 번으로 충분 (레인 소유 확인은 GameRoomService.updateRoom)
+     */
+    private void publishSnapshot() {
+        GameRoomSnapshot previous = snapshot;
+        long version = previous != null ? previous.getVersion() + 1 : 1;
+        snapshot = new GameRoomSnapshot(
+                version, roomId, creatorSessionId, joinerSessionId,
+                status, currentTurn, creatorReady, joinerReady, history.size()
+        );
+    }
+
+    /**
+     * 최신 상태 스냅샷 (락 없이 읽기)
+     */
+    public GameRoomSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 현재 상태 버전
+     */
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
     /**
      * 마지막 활동 시간 업데이트
      */
     private void updateActivity() {
-        this.lastActivity = LocalDateTime.now();
+        this.lastActivityMillis = clock.millis();
     }
 
     // === Getters and Setters ===
@@ -160,6 +280,7 @@ public class GameRoom {
 
     public void setRoomId(String roomId) {
         this.roomId = roomId;
+        publishSnapshot();
     }
 
     public String getCreatorSessionId() {
@@ -168,6 +289,7 @@ public class GameRoom {
 
     public void setCreatorSessionId(String creatorSessionId) {
         this.creatorSessionId = creatorSessionId;
+        publishSnapshot();
     }
 
     public String getJoinerSessionId() {
@@ -176,6 +298,10 @@ public class GameRoom {
 
     public void setJoinerSessionId(String joinerSessionId) {
         this.joinerSessionId = joinerSessionId;
+        // 참가자가 바뀌면 양쪽 후보 모두 초기화 (방장의 후보는 이전 참가자의 정답을 향해 좁혀져 있음)
+        this.joinerCandidates = null;
+        this.creatorCandidates = null;
+        publishSnapshot();
     }
 
     public GameStatus getStatus() {
@@ -184,6 +310,7 @@ public class GameRoom {
 
     public void setStatus(GameStatus status) {
         this.status = status;
+        publishSnapshot();
     }
 
     public GameSettings getSettings() {
@@ -192,6 +319,9 @@ public class GameRoom {
 
     public void setSettings(GameSettings settings) {
         this.settings = settings;
+        this.creatorCandidates = null; // 코드 색인이 바뀌므로 후보 초기화
+        this.joinerCandidates = null;
+        publishSnapshot();
     }
 
     public String getCreatorAnswer() {
@@ -200,6 +330,8 @@ public class GameRoom {
 
     public void setCreatorAnswer(String creatorAnswer) {
         this.creatorAnswer = creatorAnswer;
+        this.joinerCandidates = null;
+        publishSnapshot();
     }
 
     public String getJoinerAnswer() {
@@ -208,6 +340,8 @@ public class GameRoom {
 
     public void setJoinerAnswer(String joinerAnswer) {
         this.joinerAnswer = joinerAnswer;
+        this.creatorCandidates = null;
+        publishSnapshot();
     }
 
     public String getCurrentTurn() {
@@ -216,18 +350,51 @@ public class GameRoom {
 
     public void setCurrentTurn(String currentTurn) {
         this.currentTurn = currentTurn;
+        publishSnapshot();
     }
 
+    /**
+     * 전체 기록의 읽기 전용 뷰 (복사 없이 저장 공간 공유, GameTurn은 읽을 때 만들어짐)
+     */
     public List<GameTurn> getHistory() {
-        return new ArrayList<>(history); // 방어적 복사
+        return history.view();
+    }
+
+    /**
+     * 가장 최근 턴
+     * @return 아직 턴이 없으면 null
+     */
+    public GameTurn latestTurn() {
+        return history.last();
+    }
+
+    public int turnCount() {
+        return history.size();
     }
 
     public LocalDateTime getCreatedAt() {
-        return createdAt;
+        return toLocalDateTime(createdAtMillis);
     }
 
     public LocalDateTime getLastActivity() {
-        return lastActivity;
+        return toLocalDateTime(lastActivityMillis);
+    }
+
+    public long getLastActivityMillis() {
+        return lastActivityMillis;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public BotPlayer getBot() {
+        return bot;
+    }
+
+    public void setBot(BotPlayer bot) {
+        this.bot = bot;
+        publishSnapshot();
     }
 
     public boolean isCreatorReady() {
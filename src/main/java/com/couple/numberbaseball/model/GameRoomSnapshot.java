@@ -0,0 +1,75 @@
+package com.couple.numberbaseball.model;
+
+/**
+ * 게임 방 상태의 불변 스냅샷
+ * - 상태가 바뀔 때마다 방 레인에서 버전이 1씩 증가한 새 스냅샷이 게시됨
+ * - 조회/브로드캐스트는 락 없이 스냅샷 하나를 읽어 항상 서로 맞는 값들을 얻음
+ */
+public final class GameRoomSnapshot {
+    private final long version;             // 상태 버전 (변경마다 1 증가)
+    private final String roomId;
+    private final String creatorSessionId;
+    private final String joinerSessionId;
+    private final GameStatus status;
+    private final String currentTurn;
+    private final boolean creatorReady;
+    private final boolean joinerReady;
+    private final int turnCount;
+
+    public GameRoomSnapshot(long version, String roomId, String creatorSessionId, String joinerSessionId,
+                            GameStatus status, String currentTurn,
+                            boolean creatorReady, boolean joinerReady, int turnCount) {
+        this.version = version;
+        this.roomId = roomId;
+        this.creatorSessionId = creatorSessionId;
+        this.joinerSessionId = joinerSessionId;
+        this.status = status;
+        this.currentTurn = currentTurn;
+        this.creatorReady = creatorReady;
+        this.joinerReady = joinerReady;
+        this.turnCount = turnCount;
+    }
+
+    // Getters
+    public long getVersion() {
+        return version;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public String getCreatorSessionId() {
+        return creatorSessionId;
+    }
+
+    public String getJoinerSessionId() {
+        return joinerSessionId;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public String getCurrentTurn() {
+        return currentTurn;
+    }
+
+    public boolean isCreatorReady() {
+        return creatorReady;
+    }
+
+    public boolean isJoinerReady() {
+        return joinerReady;
+    }
+
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("GameRoomSnapshot{roomId='%s', version=%d, status=%s, turns=%d}",
+                roomId, version, status, turnCount);
+    }
+}
@@ -1,26 +1,44 @@
 package com.couple.numberbaseball.model;
 
+import com.couple.numberbaseball.engine.JudgeResult;
+
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 /**
  * 게임 턴 정보
  * - 턴 번호, 추측한 플레이어, 추측 숫자, 판정 결과
+ * - 판정 결과는 표시용 문자열과 함께 스트라이크/볼 개수, 승리 여부를 숫자로도 가짐
  */
 public class GameTurn {
     private int turnNumber;        // 턴 번호 (1부터 시작)
     private String guesserSessionId; // 추측한 플레이어의 세션 ID
     private String guess;          // 추측한 숫자
     private String result;         // 판정 결과 (예: "1S 2B", "3S")
+    private int strikes;           // 스트라이크 개수
+    private int balls;             // 볼 개수
+    private boolean win;           // 모든 자리가 스트라이크인지
     private LocalDateTime timestamp; // 턴이 진행된 시간
 
     public GameTurn() {}
 
-    public GameTurn(int turnNumber, String guesserSessionId, String guess, String result) {
+    /**
+     * 패킹된 판정 결과로 생성
+     * @param judgeResult {@link JudgeResult} 형식의 판정 결과
+     * @param digits 게임 자릿수 (승리 판정용)
+     * @param timestampMillis 턴이 진행된 시간 (epoch 밀리초)
+     */
+    public GameTurn(int turnNumber, String guesserSessionId, String guess, int judgeResult, int digits,
+                    long timestampMillis) {
         this.turnNumber = turnNumber;
         this.guesserSessionId = guesserSessionId;
         this.guess = guess;
-        this.result = result;
-        this.timestamp = LocalDateTime.now();
+        this.result = JudgeResult.format(judgeResult);
+        this.strikes = JudgeResult.strikes(judgeResult);
+        this.balls = JudgeResult.balls(judgeResult);
+        this.win = JudgeResult.isWin(judgeResult, digits);
+        this.timestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestampMillis), ZoneId.systemDefault());
     }
 
     // Getters and Setters
@@ -56,6 +74,30 @@ public class GameTurn {
         this.result = result;
     }
 
+    public int getStrikes() {
+        return strikes;
+    }
+
+    public void setStrikes(int strikes) {
+        this.strikes = strikes;
+    }
+
+    public int getBalls() {
+        return balls;
+    }
+
+    public void setBalls(int balls) {
+        this.balls = balls;
+    }
+
+    public boolean isWin() {
+        return win;
+    }
+
+    public void setWin(boolean win) {
+        this.win = win;
+    }
+
     public LocalDateTime getTimestamp() {
         return timestamp;
     }
@@ -68,7 +110,7 @@ public class GameTurn {
      * 이 턴이 완전한 스트라이크(승리)인지 확인
      */
     public boolean isWinningTurn(int totalDigits) {
-        return result != null && result.equals(totalDigits + "S");
+        return strikes == totalDigits;
     }
 
     @Override
@@ -11,6 +11,7 @@ public class StateChangePayload {
     private String roomCode;
     private boolean creatorReady;
     private boolean joinerReady;
+    private long version;
 
     // 기본 생성자 (필요한 경우)
     public StateChangePayload() {
@@ -24,5 +25,18 @@ public class StateChangePayload {
         this.creatorReady = creatorReady;
         this.joinerReady = joinerReady;
     }
+
+    // 방 상태 스냅샷으로부터 생성
+    public static StateChangePayload fromSnapshot(GameRoomSnapshot snapshot) {
+        StateChangePayload payload = new StateChangePayload(
+                snapshot.getStatus(),
+                snapshot.getCurrentTurn(),
+                snapshot.getRoomId(),
+                snapshot.isCreatorReady(),
+                snapshot.isJoinerReady()
+        );
+        payload.setVersion(snapshot.getVersion());
+        return payload;
+    }
 }
 
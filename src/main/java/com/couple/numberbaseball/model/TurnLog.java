@@ -0,0 +1,147 @@
+package com.couple.numberbaseball.model;
+
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeResult;
+import com.couple.numberbaseball.util.GameClock;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * 방 하나의 턴 기록 (턴 하나를 long 하나로 패킹)
+ * - 비트 0-7: 판정 결과 ({@link JudgeResult} 형식), 8-15: 추측한 플레이어 번호, 16-35: 추측 코드 id,
+ *   36-63: 기록 시작 시각으로부터 지난 밀리초 (약 74시간까지, 넘으면 최대값으로 고정)
+ * - 턴당 8바이트이므로 GameTurn 객체(문자열 3개 + LocalDateTime)보다 훨씬 작음
+ * - GameTurn은 view()로 읽을 때만 만들어짐, 뷰는 배열을 복사하지 않고 공유
+ * - 기록은 방 레인에서만, 읽기는 어느 스레드에서나 가능 (size 쓰기로 게시)
+ */
+final class TurnLog {
+
+    private static final int RESULT_BITS = 8;
+    private static final int GUESSER_SHIFT = 8;
+    private static final int GUESSER_BITS = 8;
+    private static final int CODE_SHIFT = 16;
+    private static final int CODE_BITS = 20;
+    private static final int MILLIS_SHIFT = 36;
+    private static final long MAX_DELTA_MILLIS = (1L << (64 - MILLIS_SHIFT)) - 1;
+
+    private final GameClock clock;
+    private final long baseMillis;
+
+    private volatile long[] entries = new long[8];
+    private volatile String[] guessers = new String[0]; // 플레이어 번호 -> 세션 ID (참가자가 바뀌어도 기록 유지)
+    private volatile CodeSpace space;
+    private volatile int size;
+
+    TurnLog(GameClock clock) {
+        this.clock = clock;
+        this.baseMillis = clock.millis();
+    }
+
+    /**
+     * 턴 기록
+     * @param space 방 설정의 코드 색인
+     * @param guesserSessionId 추측한 플레이어 세션 ID
+     * @param guess 추측 코드
+     * @param judgeResult 패킹된 판정 결과
+     * @throws IllegalArgumentException 코드 색인에 없는 추측이거나 판정 결과가 올바르지 않음
+     */
+    void append(CodeSpace space, String guesserSessionId, String guess, int judgeResult) {
+        int codeId = space.idOf(guess);
+        if (codeId < 0 || judgeResult < 0 || judgeResult >= (1 << RESULT_BITS)) {
+            throw new IllegalArgumentException("기록할 수 없는 턴입니다: " + guess + " / " + judgeResult);
+        }
+
+        long delta = Math.min(Math.max(0L, clock.millis() - baseMillis), MAX_DELTA_MILLIS);
+        long entry = (delta << MILLIS_SHIFT)
+                | ((long) codeId << CODE_SHIFT)
+                | ((long) guesserIndex(guesserSessionId) << GUESSER_SHIFT)
+                | judgeResult;
+
+        int index = size;
+        long[] target = entries;
+        if (index == target.length) {
+            target = Arrays.copyOf(target, target.length << 1); // 이전 뷰는 이전 배열을 계속 사용
+        }
+        target[index] = entry;
+        this.space = space;
+        this.entries = target;
+        this.size = index + 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 가장 최근 턴
+     * @return 아직 턴이 없으면 null
+     */
+    GameTurn last() {
+        int n = size;
+        return n == 0 ? null : decode(entries[n - 1], n, guessers, space);
+    }
+
+    /**
+     * 현재 시점의 읽기 전용 뷰 (이후 기록된 턴은 보이지 않음)
+     */
+    List<GameTurn> view() {
+        int n = size;
+        return new View(entries, n, guessers, space);
+    }
+
+    private int guesserIndex(String sessionId) {
+        String[] current = guessers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(sessionId)) {
+                return i;
+            }
+        }
+        if (current.length == (1 << GUESSER_BITS)) {
+            throw new IllegalStateException("기록할 수 있는 플레이어 수를 넘었습니다.");
+        }
+        String[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = sessionId;
+        guessers = grown;
+        return current.length;
+    }
+
+    private GameTurn decode(long entry, int turnNumber, String[] guesserTable, CodeSpace codeSpace) {
+        int judgeResult = (int) (entry & ((1 << RESULT_BITS) - 1));
+        int guesser = (int) ((entry >>> GUESSER_SHIFT) & ((1 << GUESSER_BITS) - 1));
+        int codeId = (int) ((entry >>> CODE_SHIFT) & ((1L << CODE_BITS) - 1));
+        long millis = baseMillis + (entry >>> MILLIS_SHIFT);
+
+        return new GameTurn(turnNumber, guesserTable[guesser], codeSpace.codeOf(codeId),
+                judgeResult, codeSpace.getDigits(), millis);
+    }
+
+    private final class View extends AbstractList<GameTurn> implements RandomAccess {
+        private final long[] entries;
+        private final int size;
+        private final String[] guessers;
+        private final CodeSpace space;
+
+        private View(long[] entries, int size, String[] guessers, CodeSpace space) {
+            this.entries = entries;
+            this.size = size;
+            this.guessers = guessers;
+            this.space = space;
+        }
+
+        @Override
+        public GameTurn get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+            }
+            return decode(entries[index], index + 1, guessers, space);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.couple.numberbaseball.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입장 제어 서비스
+ * - 동시에 존재할 수 있는 방 수 제한 (game.room.max-concurrent-rooms)
+ * - IP 하나가 동시에 차지할 수 있는 자리(방 생성/참가한 플레이어) 수 제한 (game.room.max-seats-per-ip)
+ * - 한도 확인은 카운터 CAS 한 번이므로 거절 비용이 거의 없음 (세션/방을 만들기 전에 확인)
+ */
+@Service
+public class AdmissionControlService {
+
+    @Value("${game.room.max-concurrent-rooms:10}")
+    private int maxConcurrentRooms;
+
+    @Value("${game.room.max-seats-per-ip:4}")
+    private int maxSeatsPerIp;
+
+    private final AtomicInteger activeRooms = new AtomicInteger();
+
+    // IP -> 차지한 자리 수 (0이 되면 제거)
+    private final ConcurrentHashMap<String, AtomicInteger> seatsByIp = new ConcurrentHashMap<>();
+
+    // 세션 ID -> 자리를 차지한 IP
+    private final ConcurrentHashMap<String, String> seatOwners = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong admittedCount = new AtomicLong();
+    private final AtomicLong rejectedRoomLimitCount = new AtomicLong();
+    private final AtomicLong rejectedIpLimitCount = new AtomicLong();
+
+    /**
+     * 방 생성 허가 (방 한 개 + 방장 자리 한 개 확보)
+     * @param clientIp 요청 IP
+     * @return 한도 초과면 false
+     */
+    public boolean tryAcquireRoom(String clientIp) {
+        int current;
+        do {
+            current = activeRooms.get();
+            if (current >= maxConcurrentRooms) {
+                rejectedRoomLimitCount.incrementAndGet();
+                return false;
+            }
+        } while (!activeRooms.compareAndSet(current, current + 1));
+
+        if (!tryAcquireSeat(clientIp)) {
+            activeRooms.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 방 참가 허가 (자리 한 개 확보)
+     * @param clientIp 요청 IP
+     * @return 한도 초과면 false
+     */
+    public boolean tryAcquireSeat(String clientIp) {
+        boolean[] acquired = new boolean[1];
+        seatsByIp.compute(clientIp, (ip, seats) -> {
+            AtomicInteger target = seats != null ? seats : new AtomicInteger();
+            if (target.get() < maxSeatsPerIp) {
+                target.incrementAndGet();
+                acquired[0] = true;
+            }
+            return target.get() > 0 ? target : null;
+        });
+
+        if (acquired[0]) {
+            admittedCount.incrementAndGet();
+        } else {
+            rejectedIpLimitCount.incrementAndGet();
+        }
+        return acquired[0];
+    }
+
+    /**
+     * 확보한 자리를 세션에 연결 (세션이 방을 떠날 때 반납하기 위해)
+     */
+    public void assignSeat(String sessionId, String clientIp) {
+        seatOwners.put(sessionId, clientIp);
+    }
+
+    /**
+     * 세션이 차지한 자리 반납 (연결된 자리가 없으면 무시)
+     */
+    public void releaseSeat(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        String clientIp = seatOwners.remove(sessionId);
+        if (clientIp != null) {
+            seatsByIp.computeIfPresent(clientIp, (ip, seats) -> seats.decrementAndGet() > 0 ? seats : null);
+        }
+    }
+
+    /**
+     * 방 한 개 반납 (방 삭제 시)
+     */
+    public void releaseRoom() {
+        activeRooms.updateAndGet(current -> Math.max(0, current - 1));
+    }
+
+    /**
+     * 현재 입장 제어 상태
+     */
+    public Stats getStats() {
+        return new Stats(activeRooms.get(), maxConcurrentRooms, seatOwners.size(), seatsByIp.size(), maxSeatsPerIp,
+                admittedCount.get(), rejectedRoomLimitCount.get(), rejectedIpLimitCount.get());
+    }
+
+    /**
+     * 입장 제어 통계
+     */
+    public static class Stats {
+        private final int activeRooms;
+        private final int maxConcurrentRooms;
+        private final int occupiedSeats;
+        private final int trackedIps;
+        private final int maxSeatsPerIp;
+        private final long admitted;
+        private final long rejectedByRoomLimit;
+        private final long rejectedByIpLimit;
+
+        public Stats(int activeRooms, int maxConcurrentRooms, int occupiedSeats, int trackedIps, int maxSeatsPerIp,
+                     long admitted, long rejectedByRoomLimit, long rejectedByIpLimit) {
+            this.activeRooms = activeRooms;
+            this.maxConcurrentRooms = maxConcurrentRooms;
+            this.occupiedSeats = occupiedSeats;
+            this.trackedIps = trackedIps;
+            this.maxSeatsPerIp = maxSeatsPerIp;
+            this.admitted = admitted;
+            this.rejectedByRoomLimit = rejectedByRoomLimit;
+            this.rejectedByIpLimit = rejectedByIpLimit;
+        }
+
+        public int getActiveRooms() { return activeRooms; }
+        public int getMaxConcurrentRooms() { return maxConcurrentRooms; }
+        public int getOccupiedSeats() { return occupiedSeats; }
+        public int getTrackedIps() { return trackedIps; }
+        public int getMaxSeatsPerIp() { return maxSeatsPerIp; }
+        public long getAdmitted() { return admitted; }
+        public long getRejectedByRoomLimit() { return rejectedByRoomLimit; }
+        public long getRejectedByIpLimit() { return rejectedByIpLimit; }
+    }
+}
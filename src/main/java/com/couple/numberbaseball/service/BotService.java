@@ -0,0 +1,124 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.dto.websocket.GameFinishedPayloadDto;
+import com.couple.numberbaseball.dto.websocket.NewGuessPayloadDto;
+import com.couple.numberbaseball.dto.websocket.WebSocketMessageType;
+import com.couple.numberbaseball.engine.CandidateView;
+import com.couple.numberbaseball.model.BotPlayer;
+import com.couple.numberbaseball.model.GameRoom;
+import com.couple.numberbaseball.model.GameStatus;
+import com.couple.numberbaseball.model.GameTurn;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 상대 진행 서비스
+ * 봇의 차례가 되면 지연 후 방 레인에서 추측을 수행 (STOMP 수신 스레드를 막지 않음)
+ * - 추측은 방이 관리하는 봇의 남은 후보 중 무작위 선택
+ */
+@Service
+public class BotService {
+
+    private static final Logger log = LoggerFactory.getLogger(BotService.class);
+
+    @Autowired
+    private RoomBroadcaster roomBroadcaster;
+
+    @Autowired
+    private GameRoomService gameRoomService;
+
+    @Autowired
+    private GameLogicService gameLogicService;
+
+    @Autowired
+    private RoomExecutor roomExecutor;
+
+    // 봇 차례 후 실제 추측까지의 지연 (사람처럼 보이도록)
+    @Value("${game.bot.move-delay-ms:700}")
+    private long moveDelayMs;
+
+    // 봇 추측 예약용 스케줄러 (실제 추측은 방 레인에서 실행되므로 스레드 하나로 충분)
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1, runnable -> {
+        Thread thread = new Thread(runnable, "game-bot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 방의 턴이 바뀐 뒤 호출, 봇 차례면 추측을 예약
+     * @param room 게임 방
+     */
+    public void onTurnChanged(GameRoom room) {
+        if (isBotTurn(room)) {
+            String roomCode = room.getRoomId();
+            // 지연 후 방 레인에서 추측 (다른 방 명령과 같은 순서 보장)
+            scheduler.schedule(() -> roomExecutor.execute(roomCode, () -> playTurn(roomCode)),
+                    moveDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 봇 추측 수행
+     */
+    private void playTurn(String roomCode) {
+        try {
+            GameRoom room = gameRoomService.findRoomByCode(roomCode);
+            if (!isBotTurn(room)) {
+                return; // 그 사이 방이 삭제되었거나 게임이 끝남
+            }
+
+            BotPlayer bot = room.getBot();
+            CandidateView candidates = room.getCandidates(bot.getSessionId());
+            if (candidates == null || candidates.size() == 0) {
+                return; // 상대 정답이 판정과 모순 (발생하지 않아야 함)
+            }
+
+            int guessId = candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+            String guess = candidates.space().codeOf(guessId);
+
+            // 봇은 방장의 정답을 맞힘 (후보 집합은 addTurn에서 좁혀짐)
+            int judgeResult = gameLogicService.judgeCode(guess, room.getCreatorAnswer(), room.getSettings());
+            room.addTurn(bot.getSessionId(), guess, judgeResult, gameLogicService.judgeTable(room.getSettings()));
+            gameRoomService.updateRoom(room);
+
+            GameTurn latestTurn = room.latestTurn();
+            roomBroadcaster.broadcast(roomCode, WebSocketMessageType.NEW_GUESS,
+                    NewGuessPayloadDto.fromGameTurn(latestTurn, room.getCurrentTurn(), room.getVersion()));
+
+            if (room.getStatus() == GameStatus.FINISHED) {
+                GameFinishedPayloadDto finishPayload = new GameFinishedPayloadDto(
+                        bot.getSessionId(),
+                        "WIN",
+                        room.getHistory()
+                );
+                roomBroadcaster.broadcast(roomCode, WebSocketMessageType.GAME_FINISHED, finishPayload);
+            }
+        } catch (Exception e) {
+            log.error("봇 추측 처리 중 오류 발생", e);
+        }
+    }
+
+    private boolean isBotTurn(GameRoom room) {
+        return room != null
+                && room.isBotGame()
+                && room.getStatus() == GameStatus.IN_PROGRESS
+                && room.isPlayerTurn(room.getBot().getSessionId());
+    }
+
+    /**
+     * 리소스 정리 (애플리케이션 종료시)
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -1,9 +1,21 @@
 package com.couple.numberbaseball.service;
 
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeMatrix;
+import com.couple.numberbaseball.engine.JudgeResult;
+import com.couple.numberbaseball.engine.JudgeTable;
 import com.couple.numberbaseball.model.GameSettings;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * 숫자야구 게임 핵심 로직 서비스
@@ -16,154 +28,196 @@ public class GameLogicService {
 
     private final Random random = new Random();
 
+    // 판정 행렬 메모리 예산 (바이트), 초과하는 설정은 계산 판정 사용
+    @Value("${game.judge.matrix-budget-bytes:16777216}")
+    private long matrixBudgetBytes;
+
+    // 설정 조합(CodeSpace slot)별 판정 행렬 캐시
+    private final AtomicReferenceArray<JudgeTable> judgeTables = new AtomicReferenceArray<>(CodeSpace.slotCount());
+    private final AtomicLong matrixBytesInUse = new AtomicLong();
+
+    // 판정 행렬 생성 스레드 (요청 처리 스레드에서는 생성하지 않음)
+    private final ExecutorService matrixBuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "judge-matrix-builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 행렬 생성 중 / 예산 초과를 나타내는 표시 (CodeSpace 계산 판정으로 대체)
+    private static final JudgeTable BUILDING = new UnavailableTable();
+    private static final JudgeTable OVER_BUDGET = new UnavailableTable();
+
     /**
      * 게임 설정에 따라 정답 숫자를 생성
+     * - 설정별 코드 색인에서 고르므로 입력 검증 규칙(첫 자리 0 금지 등)을 항상 만족
      * @param settings 게임 설정 (자릿수, 0포함, 중복허용)
      * @return 생성된 정답 숫자 문자열
+     * @throws IllegalArgumentException 지원하지 않는 자릿수
      */
     public String generateAnswer(GameSettings settings) {
-        int digits = settings.getDigits();
-        boolean allowZero = settings.isAllowZero();
-        boolean allowDuplicate = settings.isAllowDuplicate();
-
-        if (allowDuplicate) {
-            return generateWithDuplicate(digits, allowZero);
-        } else {
-            return generateWithoutDuplicate(digits, allowZero);
-        }
+        CodeSpace space = CodeSpace.of(settings);
+        return space.codeOf(random.nextInt(space.size()));
     }
 
     /**
-     * 중복 허용하여 정답 생성
+     * 추측과 정답을 비교하여 스트라이크/볼 판정
+     * @param guess 추측 숫자
+     * @param answer 정답 숫자
+     * @return 판정 결과 (예: "1S 2B", "3S", "OUT")
      */
-    private String generateWithDuplicate(int digits, boolean allowZero) {
-        StringBuilder answer = new StringBuilder();
-
-        for (int i = 0; i < digits; i++) {
-            if (i == 0 && !allowZero) {
-                // 첫 번째 자리는 1~9
-                answer.append(random.nextInt(9) + 1);
-            } else {
-                // 나머지 자리는 0~9 (allowZero에 따라)
-                int maxDigit = allowZero ? 10 : 9;
-                int startDigit = allowZero ? 0 : 1;
-                answer.append(random.nextInt(maxDigit) + startDigit);
-            }
-        }
-
-        return answer.toString();
+    public String judge(String guess, String answer) {
+        return JudgeResult.format(judgeCode(guess, answer));
     }
 
     /**
-     * 중복 없이 정답 생성
+     * 추측과 정답을 비교하여 패킹된 판정 결과를 반환 (객체 할당 없음)
+     * - 스트라이크가 아닌 자리의 숫자를 비트마스크 / 숫자별 개수(4비트씩 long에 패킹)로 모은 뒤
+     *   비트 연산으로 볼 개수를 계산
+     * @param guess 추측 숫자
+     * @param answer 정답 숫자
+     * @return {@link JudgeResult} 형식의 판정 결과
      */
-    private String generateWithoutDuplicate(int digits, boolean allowZero) {
-        List<Integer> availableDigits = new ArrayList<>();
-
-        // 사용 가능한 숫자 리스트 생성
-        int start = allowZero ? 0 : 1;
-        for (int i = start; i <= 9; i++) {
-            availableDigits.add(i);
+    public int judgeCode(String guess, String answer) {
+        if (guess == null || answer == null || guess.length() != answer.length()) {
+            throw new IllegalArgumentException("추측과 정답의 길이가 다릅니다.");
         }
 
-        // 충분한 숫자가 있는지 확인
-        if (availableDigits.size() < digits) {
-            throw new IllegalArgumentException("중복 없이 " + digits + "자리 숫자를 만들 수 없습니다.");
-        }
+        int length = guess.length();
+        int strikes = 0;
+        int guessMask = 0;
+        int answerMask = 0;
+        long guessCounts = 0L;
+        long answerCounts = 0L;
+
+        for (int i = 0; i < length; i++) {
+            int g = guess.charAt(i) - '0';
+            int a = answer.charAt(i) - '0';
+            if (g < 0 || g > 9 || a < 0 || a > 9) {
+                throw new IllegalArgumentException("숫자만 판정할 수 있습니다.");
+            }
 
-        StringBuilder answer = new StringBuilder();
-
-        for (int i = 0; i < digits; i++) {
-            if (i == 0 && !allowZero && availableDigits.contains(0)) {
-                // 첫 번째 자리에 0이 올 수 없는 경우
-                availableDigits.remove(Integer.valueOf(0));
-                int randomIndex = random.nextInt(availableDigits.size());
-                int selectedDigit = availableDigits.remove(randomIndex);
-                answer.append(selectedDigit);
-                // 0을 다시 추가 (다음 자리에서 사용 가능)
-                availableDigits.add(0);
+            if (g == a) {
+                strikes++;
             } else {
-                int randomIndex = random.nextInt(availableDigits.size());
-                int selectedDigit = availableDigits.remove(randomIndex);
-                answer.append(selectedDigit);
+                // 스트라이크가 아닌 자리만 볼 후보로 집계
+                guessMask |= 1 << g;
+                answerMask |= 1 << a;
+                guessCounts += 1L << (g << 2);
+                answerCounts += 1L << (a << 2);
             }
         }
 
-        return answer.toString();
+        int unmatched = length - strikes;
+        int balls;
+        if (Integer.bitCount(guessMask) == unmatched || Integer.bitCount(answerMask) == unmatched) {
+            // 한쪽이라도 중복이 없으면 공통 숫자 개수 = 볼 개수
+            balls = Integer.bitCount(guessMask & answerMask);
+        } else {
+            balls = sumOfMinCounts(guessCounts, answerCounts, guessMask & answerMask);
+        }
+
+        return JudgeResult.of(strikes, balls);
     }
 
     /**
-     * 추측과 정답을 비교하여 스트라이크/볼 판정
+     * 게임 설정을 알고 있을 때의 판정
+     * - 판정 행렬이 있으면 배열 한 번 읽기, 없으면 코드 색인으로 계산
      * @param guess 추측 숫자
      * @param answer 정답 숫자
-     * @return 판정 결과 (예: "1S 2B", "3S", "OUT")
+     * @param settings 게임 설정
+     * @return {@link JudgeResult} 형식의 판정 결과
      */
-    public String judge(String guess, String answer) {
-        if (guess == null || answer == null || guess.length() != answer.length()) {
-            throw new IllegalArgumentException("추측과 정답의 길이가 다릅니다.");
+    public int judgeCode(String guess, String answer, GameSettings settings) {
+        if (!CodeSpace.supports(settings.getDigits())) {
+            return judgeCode(guess, answer);
         }
 
-        int strikes = 0;
-        int balls = 0;
+        JudgeTable table = judgeTable(settings);
+        CodeSpace space = table.space();
+        int guessId = space.idOf(guess);
+        int answerId = space.idOf(answer);
+        if (guessId < 0 || answerId < 0) {
+            return judgeCode(guess, answer);
+        }
+        return table.judge(guessId, answerId);
+    }
 
-        char[] guessChars = guess.toCharArray();
-        char[] answerChars = answer.toCharArray();
+    /**
+     * 게임 설정에 맞는 판정 테이블 조회 (기다리지 않음)
+     * - 판정 행렬이 준비되어 있으면 행렬, 아니면 코드 색인 계산 판정 반환
+     * - 아직 생성 요청이 없던 설정이면 백그라운드 생성을 요청
+     * - 호출할 때마다 현재 상태를 보므로, 행렬이 준비된 뒤의 조회부터 행렬을 사용
+     * @param settings 게임 설정
+     * @return 판정 테이블
+     */
+    public JudgeTable judgeTable(GameSettings settings) {
+        CodeSpace space = CodeSpace.of(settings);
+        JudgeTable table = judgeTables.get(space.slot());
+        if (table == null) {
+            requestMatrix(space);
+        }
+        return table instanceof JudgeMatrix ? table : space;
+    }
 
-        // 스트라이크 계산
-        for (int i = 0; i < guessChars.length; i++) {
-            if (guessChars[i] == answerChars[i]) {
-                strikes++;
+    /**
+     * 서버 시작 후 모든 설정의 판정 행렬 생성 요청 (작은 설정부터, 예산 안에서만 생성됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prebuildJudgeMatrices() {
+        for (int digits = CodeSpace.MIN_DIGITS; digits <= CodeSpace.MAX_DIGITS; digits++) {
+            for (int flags = 0; flags < 4; flags++) {
+                requestMatrix(CodeSpace.of(digits, (flags & 2) != 0, (flags & 1) != 0));
             }
         }
+    }
 
-        // 볼 계산 (전체 일치하는 숫자 개수 - 스트라이크)
-        boolean[] guessUsed = new boolean[guessChars.length];
-        boolean[] answerUsed = new boolean[answerChars.length];
-
-        // 스트라이크 위치 마킹
-        for (int i = 0; i < guessChars.length; i++) {
-            if (guessChars[i] == answerChars[i]) {
-                guessUsed[i] = true;
-                answerUsed[i] = true;
-            }
+    private void requestMatrix(CodeSpace space) {
+        if (judgeTables.compareAndSet(space.slot(), null, BUILDING)) {
+            matrixBuilder.execute(() -> buildMatrix(space));
         }
+    }
 
-        // 볼 계산
-        for (int i = 0; i < guessChars.length; i++) {
-            if (!guessUsed[i]) {
-                for (int j = 0; j < answerChars.length; j++) {
-                    if (!answerUsed[j] && guessChars[i] == answerChars[j]) {
-                        balls++;
-                        answerUsed[j] = true;
-                        break;
-                    }
-                }
-            }
+    private void buildMatrix(CodeSpace space) {
+        int slot = space.slot();
+        long required = JudgeMatrix.requiredBytes(space);
+        if (matrixBytesInUse.addAndGet(required) > matrixBudgetBytes) {
+            matrixBytesInUse.addAndGet(-required);
+            judgeTables.set(slot, OVER_BUDGET);
+            return;
         }
 
-        return formatJudgeResult(strikes, balls);
+        try {
+            judgeTables.set(slot, JudgeMatrix.build(space));
+        } catch (RuntimeException | OutOfMemoryError e) {
+            matrixBytesInUse.addAndGet(-required);
+            judgeTables.set(slot, OVER_BUDGET);
+        }
     }
 
     /**
-     * 판정 결과를 문자열로 포맷팅
+     * 현재 판정 행렬이 사용 중인 메모리 (바이트)
      */
-    private String formatJudgeResult(int strikes, int balls) {
-        if (strikes == 0 && balls == 0) {
-            return "OUT";
-        }
+    public long getMatrixBytesInUse() {
+        return matrixBytesInUse.get();
+    }
 
-        StringBuilder result = new StringBuilder();
-        if (strikes > 0) {
-            result.append(strikes).append("S");
-        }
-        if (balls > 0) {
-            if (result.length() > 0) {
-                result.append(" ");
-            }
-            result.append(balls).append("B");
-        }
+    @PreDestroy
+    public void shutdown() {
+        matrixBuilder.shutdownNow();
+    }
 
-        return result.toString();
+    /**
+     * 숫자별 개수 벡터 두 개의 min 합 (중복 숫자가 양쪽에 있는 경우에만 사용)
+     */
+    private static int sumOfMinCounts(long guessCounts, long answerCounts, int commonMask) {
+        int sum = 0;
+        while (commonMask != 0) {
+            int digit = Integer.numberOfTrailingZeros(commonMask);
+            int shift = digit << 2;
+            sum += (int) Math.min((guessCounts >>> shift) & 0xF, (answerCounts >>> shift) & 0xF);
+            commonMask &= commonMask - 1;
+        }
+        return sum;
     }
 
     /**
@@ -173,36 +227,13 @@ public class GameLogicService {
      * @return 유효성 검증 결과
      */
     public boolean isValidInput(String input, GameSettings settings) {
-        if (input == null || input.length() != settings.getDigits()) {
-            return false;
-        }
-
-        // 숫자인지 확인
-        if (!input.matches("\\d+")) {
-            return false;
-        }
-
-        // 0 포함 여부 확인
-        if (!settings.isAllowZero() && input.contains("0")) {
-            return false;
-        }
-
-        // 첫 번째 자리가 0인지 확인 (0 허용이어도 첫 자리는 0이면 안됨)
-        if (input.charAt(0) == '0') {
+        if (input == null || input.length() != settings.getDigits() || !CodeSpace.supports(settings.getDigits())) {
             return false;
         }
 
-        // 중복 허용 여부 확인
-        if (!settings.isAllowDuplicate()) {
-            Set<Character> uniqueChars = new HashSet<>();
-            for (char c : input.toCharArray()) {
-                if (!uniqueChars.add(c)) {
-                    return false; // 중복 발견
-                }
-            }
-        }
-
-        return true;
+        // 설정별 코드 색인에서 한 번의 배열 조회로 검증
+        // (숫자 여부, 0 포함 여부, 첫 자리 0, 중복 여부 규칙이 색인에 반영되어 있음)
+        return CodeSpace.of(settings).contains(input);
     }
 
     /**
@@ -212,4 +243,19 @@ public class GameLogicService {
     public boolean isValidAnswer(String answer, GameSettings settings) {
         return isValidInput(answer, settings);
     }
-}
\ No newline at end of file
+
+    /**
+     * 판정 행렬 캐시 슬롯 상태 표시용 (직접 판정에 쓰이지 않음)
+     */
+    private static final class UnavailableTable implements JudgeTable {
+        @Override
+        public int judge(int guessId, int answerId) {
+            throw new IllegalStateException("판정 행렬을 사용할 수 없습니다.");
+        }
+
+        @Override
+        public CodeSpace space() {
+            throw new IllegalStateException("판정 행렬을 사용할 수 없습니다.");
+        }
+    }
+}
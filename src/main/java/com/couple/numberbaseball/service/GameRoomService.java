@@ -1,36 +1,77 @@
 package com.couple.numberbaseball.service;
 
 import com.couple.numberbaseball.model.*;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import com.couple.numberbaseball.util.GameClock;
+import com.couple.numberbaseball.util.RoomCodeAllocator;
+import com.couple.numberbaseball.util.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 게임 방 관리 서비스
  * In-Memory Storage로 게임 방들을 관리
+ * - 방 상태 변경(참가, 나가기, 삭제)은 해당 방의 실행 레인({@link RoomExecutor})에서 수행
  */
 @Service
 public class GameRoomService {
 
-    // In-Memory Storage: 방 코드 -> GameRoom
-    private final Map<String, GameRoom> gameRooms = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(GameRoomService.class);
 
-    // 세션 ID -> 방 코드 매핑 (빠른 조회용)
-    private final Map<String, String> sessionToRoom = new ConcurrentHashMap<>();
+    // In-Memory Storage: 방 코드 -> GameRoom, 세션 ID -> 방 코드 (샤드 단위로 함께 갱신)
+    private final RoomRegistry roomRegistry;
 
-    private final Random random = new Random();
+    // 방 코드 할당 (재시도 없는 순열 카운터 + 반납 코드 재사용)
+    private final RoomCodeAllocator roomCodeAllocator;
+
+    // 활동 시간/만료 판정용 시계
+    private final GameClock clock;
+
+    @Autowired
+    private RoomBroadcaster roomBroadcaster; // WebSocket 메시지 전송용 (한 번 직렬화)
+
+    @Autowired
+    private GameLogicService gameLogicService;
 
     @Autowired
-    private SimpMessagingTemplate messagingTemplate; // WebSocket 메시지 전송용
+    private RoomExecutor roomExecutor; // 방 단위 직렬 실행
 
-    private static final int ROOM_CODE_LENGTH = 6;
-    private static final int ROOM_TIMEOUT_MINUTES = 5; // 5분 비활성화시 방 삭제
+    @Autowired
+    private AdmissionControlService admissionControlService; // 방/자리 한도 반납
+
+    // 비활성화 후 방 삭제까지의 시간
+    @Value("${game.room.timeout-minutes:5}")
+    private long roomTimeoutMinutes;
+
+    // 방 만료 타이밍 휠 (샤드마다 하나, 틱 = 정리 주기, 512칸)
+    // 활동할 때마다 휠을 건드리지 않고, 만료 시점에 마지막 활동 시간을 보고 다시 등록하는 방식
+    private final TimingWheel<String>[] expiryWheels;
+
+    private static final int EXPIRY_WHEEL_SLOTS = 512;
+
+    @SuppressWarnings("unchecked")
+    public GameRoomService(RoomRegistry roomRegistry,
+                           GameClock clock,
+                           @Value("${game.room.cleanup-interval:1000}") long cleanupIntervalMillis,
+                           @Value("${game.room.code-quarantine-minutes:10}") long codeQuarantineMinutes) {
+        this.roomRegistry = roomRegistry;
+        this.clock = clock;
+        long now = clock.millis();
+        this.expiryWheels = new TimingWheel[roomRegistry.getShardCount()];
+        for (int i = 0; i < expiryWheels.length; i++) {
+            expiryWheels[i] = new TimingWheel<>(cleanupIntervalMillis, EXPIRY_WHEEL_SLOTS, now);
+        }
+        this.roomCodeAllocator = new RoomCodeAllocator(TimeUnit.MINUTES.toMillis(codeQuarantineMinutes), clock);
+    }
+
+    private static final String BOT_SESSION_PREFIX = "bot-";
 
     /**
      * 새 게임 방 생성
@@ -39,18 +80,49 @@ public class GameRoomService {
      * @return 생성된 게임 방
      */
     public GameRoom createRoom(String creatorSessionId, GameSettings settings) {
+        return createRoom(creatorSessionId, settings, false);
+    }
+
+    /**
+     * 새 게임 방 생성 (AI 상대 선택 가능)
+     * @param creatorSessionId 방장의 세션 ID
+     * @param settings 게임 설정
+     * @param vsBot true면 서버 AI가 참가자로 즉시 입장 (준비 완료, 정답 설정 완료 상태)
+     * @return 생성된 게임 방
+     */
+    public GameRoom createRoom(String creatorSessionId, GameSettings settings, boolean vsBot) {
         // 기존에 참여중인 방이 있다면 삭제
         leaveRoom(creatorSessionId);
 
-        String roomCode = generateUniqueRoomCode();
-        GameRoom room = new GameRoom(roomCode, creatorSessionId, settings);
+        String roomCode = roomCodeAllocator.allocate();
+        GameRoom room = new GameRoom(roomCode, creatorSessionId, settings, clock);
+
+        if (vsBot) {
+            attachBot(room);
+        }
 
-        gameRooms.put(roomCode, room);
-        sessionToRoom.put(creatorSessionId, roomCode);
+        if (!roomRegistry.register(room)) {
+            throw new IllegalStateException("이미 사용 중인 방 코드입니다: " + roomCode);
+        }
+        expiryWheelOf(roomCode).schedule(roomCode, room.getLastActivityMillis() + roomTimeoutMillis());
 
         return room;
     }
 
+    /**
+     * AI 상대를 참가자로 입장시킴
+     * 봇은 세션 서비스에 등록하지 않으며, 상태는 방이 들고 있는 후보 비트셋뿐
+     */
+    private void attachBot(GameRoom room) {
+        GameSettings settings = room.getSettings();
+        BotPlayer bot = new BotPlayer(BOT_SESSION_PREFIX + room.getRoomId());
+
+        room.joinRoom(bot.getSessionId());
+        room.setPlayerReady(bot.getSessionId(), true);
+        room.setPlayerAnswer(bot.getSessionId(), gameLogicService.generateAnswer(settings));
+        room.setBot(bot);
+    }
+
     /**
      * 방에 참가
      * @param roomCode 방 코드
@@ -58,31 +130,36 @@ public class GameRoomService {
      * @return 참가 성공한 게임 방, 실패시 null
      */
     public GameRoom joinRoom(String roomCode, String joinerSessionId) {
-        GameRoom room = gameRooms.get(roomCode);
-
-        if (room == null) {
-            return null; // 방이 존재하지 않음
-        }
+        GameRoom existing = roomRegistry.find(roomCode);
 
-        if (!room.getStatus().canJoin()) {
-            return null; // 참가할 수 없는 상태
+        if (existing == null || !existing.getStatus().canJoin()) {
+            return null; // 방이 존재하지 않거나 참가할 수 없는 상태
         }
 
         // 기존에 참여중인 방이 있다면 삭제
         leaveRoom(joinerSessionId);
 
-        if (room.joinRoom(joinerSessionId)) {
-            sessionToRoom.put(joinerSessionId, roomCode);
+        // 상태 확인과 참가를 방 레인 안에서 한 번에 처리
+        return roomExecutor.call(roomCode, () -> {
+            GameRoom room = roomRegistry.find(roomCode);
 
-            // --- [수정된 부분] ---
-            // 참가 성공 후 모든 클라이언트에게 상태 변경 알림
-            broadcastStateChange(roomCode);
-            // --- [수정 끝] ---
+            if (room == null || !room.getStatus().canJoin()) {
+                return null;
+            }
 
-            return room;
-        }
+            if (room.joinRoom(joinerSessionId)) {
+                roomRegistry.bindSession(joinerSessionId, roomCode);
+
+                // --- [수정된 부분] ---
+                // 참가 성공 후 모든 클라이언트에게 상태 변경 알림
+                broadcastStateChange(roomCode);
+                // --- [수정 끝] ---
 
-        return null; // 참가 실패
+                return room;
+            }
+
+            return null; // 참가 실패
+        });
     }
 
     /**
@@ -92,22 +169,16 @@ public class GameRoomService {
     public void broadcastStateChange(String roomCode) {
         GameRoom room = findRoomByCode(roomCode);
         if (room != null) {
-            StateChangePayload payload = new StateChangePayload(
-                    room.getStatus(),
-                    room.getCurrentTurn(),
-                    room.getRoomId(),
-                    room.isCreatorReady(),
-                    room.isJoinerReady()
-            );
+            // 락 없이 일관된 스냅샷 하나로 페이로드 구성
+            StateChangePayload payload = StateChangePayload.fromSnapshot(room.getSnapshot());
 
             WebSocketMessage<StateChangePayload> message = new WebSocketMessage<>(
                     WebSocketMessageType.STATE_CHANGE,
                     payload
             );
 
-            String destination = "/topic/game/" + roomCode + "/sync";
-            System.out.println("Broadcasting to " + destination + ": " + message);
-            messagingTemplate.convertAndSend(destination, message);
+            log.debug("Broadcasting to room {}: {}", roomCode, message);
+            roomBroadcaster.broadcastMessage(roomCode, message);
         }
     }
 
@@ -117,25 +188,36 @@ public class GameRoomService {
      * @param sessionId 세션 ID
      */
     public void leaveRoom(String sessionId) {
-        String roomCode = sessionToRoom.get(sessionId);
+        String roomCode = roomRegistry.roomCodeOf(sessionId);
         if (roomCode != null) {
-            GameRoom room = gameRooms.get(roomCode);
-            if (room != null) {
-                String opponentSessionId = null;
-                // 방에서 플레이어 제거 로직
-                if (room.getCreatorSessionId().equals(sessionId)) {
-                    // 방장이 나가면 방 삭제
-                    opponentSessionId = room.getJoinerSessionId();
-                    removeRoom(roomCode);
-                } else if (sessionId.equals(room.getJoinerSessionId())) {
-                    // 참가자가 나가면 다시 대기 상태로
-                    opponentSessionId = room.getCreatorSessionId();
-                    room.setJoinerSessionId(null);
-                    room.setStatus(GameStatus.WAITING_FOR_JOINER);
-                    sessionToRoom.remove(sessionId);
-                    // 상태 변경 알림
-                    broadcastStateChange(roomCode);
-                }
+            roomExecutor.run(roomCode, () -> leaveRoomInLane(sessionId, roomCode));
+        }
+    }
+
+    /**
+     * 방 떠나기 (방 레인 안에서 실행)
+     */
+    private void leaveRoomInLane(String sessionId, String roomCode) {
+        if (!roomCode.equals(roomRegistry.roomCodeOf(sessionId))) {
+            return; // 그 사이 이미 방을 떠남
+        }
+        GameRoom room = roomRegistry.find(roomCode);
+        if (room != null) {
+            String opponentSessionId = null;
+            // 방에서 플레이어 제거 로직
+            if (room.getCreatorSessionId().equals(sessionId)) {
+                // 방장이 나가면 방 삭제
+                opponentSessionId = room.getJoinerSessionId();
+                removeRoom(roomCode);
+            } else if (sessionId.equals(room.getJoinerSessionId())) {
+                // 참가자가 나가면 다시 대기 상태로
+                opponentSessionId = room.getCreatorSessionId();
+                room.setJoinerSessionId(null);
+                room.setStatus(GameStatus.WAITING_FOR_JOINER);
+                roomRegistry.unbindSession(sessionId, roomCode);
+                admissionControlService.releaseSeat(sessionId);
+                // 상태 변경 알림
+                broadcastStateChange(roomCode);
             }
         }
     }
@@ -146,11 +228,7 @@ public class GameRoomService {
      * @return 참여중인 게임 방, 없으면 null
      */
     public GameRoom findRoomBySessionId(String sessionId) {
-        String roomCode = sessionToRoom.get(sessionId);
-        if (roomCode != null) {
-            return gameRooms.get(roomCode);
-        }
-        return null;
+        return roomRegistry.findBySession(sessionId);
     }
 
     /**
@@ -159,25 +237,7 @@ public class GameRoomService {
      * @return 게임 방, 없으면 null
      */
     public GameRoom findRoomByCode(String roomCode) {
-        return gameRooms.get(roomCode);
-    }
-
-    /**
-     * 6자리 유니크한 방 코드 생성
-     * @return 생성된 방 코드
-     */
-    private String generateUniqueRoomCode() {
-        String characters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-        StringBuilder code;
-
-        do {
-            code = new StringBuilder();
-            for (int i = 0; i < ROOM_CODE_LENGTH; i++) {
-                code.append(characters.charAt(random.nextInt(characters.length())));
-            }
-        } while (gameRooms.containsKey(code.toString()));
-
-        return code.toString();
+        return roomRegistry.find(roomCode);
     }
 
     /**
@@ -185,41 +245,69 @@ public class GameRoomService {
      * @param roomCode 방 코드
      */
     private void removeRoom(String roomCode) {
-        GameRoom room = gameRooms.remove(roomCode);
+        // 관련 세션 매핑도 함께 삭제됨
+        GameRoom room = roomRegistry.remove(roomCode);
         if (room != null) {
-            // 관련 세션 매핑도 삭제
-            if (room.getCreatorSessionId() != null) {
-                sessionToRoom.remove(room.getCreatorSessionId());
-            }
-            if (room.getJoinerSessionId() != null) {
-                sessionToRoom.remove(room.getJoinerSessionId());
-            }
+            expiryWheelOf(roomCode).cancel(roomCode);
+            roomCodeAllocator.release(roomCode);
+            admissionControlService.releaseRoom();
+            admissionControlService.releaseSeat(room.getCreatorSessionId());
+            admissionControlService.releaseSeat(room.getJoinerSessionId());
         }
     }
 
 
     /**
-     * 비활성화된 방들 정리 (스케줄러에서 호출)
+     * 비활성화된 방들 정리 (스케줄러에서 정리 주기마다 호출)
+     * 이번 틱에 만료 시각이 된 방만 확인하므로 전체 방 수와 무관, 샤드별 휠을 병렬로 진행
      */
     public void cleanupInactiveRooms() {
-        LocalDateTime timeout = LocalDateTime.now().minus(ROOM_TIMEOUT_MINUTES, ChronoUnit.MINUTES);
-
-        List<String> roomsToRemove = new ArrayList<>();
+        long now = clock.millis();
+        AtomicInteger expiredCount = new AtomicInteger();
+        roomRegistry.forEachShardParallel(shard -> expiredCount.addAndGet(expiryWheels[shard].advance(now,
+                roomCode -> roomExecutor.execute(roomCode, () -> expireIfInactive(roomCode)))));
+
+        int expired = expiredCount.get();
+        if (expired > 0) {
+            log.debug("Checking {} rooms for inactivity", expired);
+        }
+    }
 
-        for (Map.Entry<String, GameRoom> entry : gameRooms.entrySet()) {
-            GameRoom room = entry.getValue();
-            if (room.getLastActivity().isBefore(timeout)) {
-                roomsToRemove.add(entry.getKey());
-            }
+    /**
+     * 마지막 활동 이후 제한 시간이 지났으면 방 삭제, 아니면 남은 시간으로 다시 등록 (방 레인 안에서 실행)
+     */
+    private void expireIfInactive(String roomCode) {
+        GameRoom room = roomRegistry.find(roomCode);
+        if (room == null) {
+            return;
         }
 
-        for (String roomCode : roomsToRemove) {
+        long deadline = room.getLastActivityMillis() + roomTimeoutMillis();
+        if (deadline <= clock.millis()) {
             removeRoom(roomCode);
+            log.info("Removed inactive room {}", roomCode);
+        } else {
+            expiryWheelOf(roomCode).schedule(roomCode, deadline);
         }
+    }
 
-        if (!roomsToRemove.isEmpty()) {
-            System.out.println("Cleaned up " + roomsToRemove.size() + " inactive rooms");
+    private TimingWheel<String> expiryWheelOf(String roomCode) {
+        return expiryWheels[roomRegistry.shardOf(roomCode)];
+    }
+
+    private long roomTimeoutMillis() {
+        return TimeUnit.MINUTES.toMillis(roomTimeoutMinutes);
+    }
+
+    /**
+     * 만료 대기 중인 방 수
+     */
+    public int getPendingExpiryCount() {
+        int total = 0;
+        for (TimingWheel<String> wheel : expiryWheels) {
+            total += wheel.size();
         }
+        return total;
     }
 
     /**
@@ -227,7 +315,28 @@ public class GameRoomService {
      * @return 활성 방 개수
      */
     public int getActiveRoomCount() {
-        return gameRooms.size();
+        return roomRegistry.size();
+    }
+
+    /**
+     * 격리 중인 (반납 후 재사용 전) 방 코드 수
+     */
+    public int getQuarantinedRoomCodeCount() {
+        return roomCodeAllocator.getQuarantinedCount();
+    }
+
+    /**
+     * 반납 후 재사용된 방 코드 수
+     */
+    public long getReusedRoomCodeCount() {
+        return roomCodeAllocator.getReusedCount();
+    }
+
+    /**
+     * 샤드별 방/세션 수와 변경 횟수
+     */
+    public List<RoomRegistry.ShardStats> getShardStats() {
+        return roomRegistry.getShardStats();
     }
 
     /**
@@ -235,7 +344,7 @@ public class GameRoomService {
      * @return 모든 방 정보
      */
     public Map<String, GameRoom> getAllRooms() {
-        return new HashMap<>(gameRooms);
+        return roomRegistry.snapshot();
     }
 
     /**
@@ -245,17 +354,22 @@ public class GameRoomService {
      * @return 속해있으면 true
      */
     public boolean isSessionInRoom(String sessionId, String roomCode) {
-        GameRoom room = gameRooms.get(roomCode);
+        GameRoom room = roomRegistry.find(roomCode);
         return room != null && room.isPlayerInRoom(sessionId);
     }
 
     /**
      * 게임 방 상태 업데이트 (외부에서 직접 수정 후 호출)
      * @param room 업데이트된 게임 방
+     * @throws IllegalStateException 해당 방 레인 밖에서 호출 (방 상태는 레인에서만 변경)
      */
     public void updateRoom(GameRoom room) {
         if (room != null && room.getRoomId() != null) {
-            gameRooms.put(room.getRoomId(), room);
+            if (!roomExecutor.isInLane(room.getRoomId())) {
+                throw new IllegalStateException("방 레인 밖에서 방 상태를 변경했습니다: " + room.getRoomId());
+            }
+            // 이미 삭제된 방은 되살리지 않음 (반납된 코드가 다른 방에 재사용될 수 있으므로)
+            roomRegistry.replace(room);
         }
     }
 }
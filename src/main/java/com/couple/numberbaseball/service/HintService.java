@@ -0,0 +1,73 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.dto.HintResponseDto;
+import com.couple.numberbaseball.engine.CandidateView;
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeTable;
+import com.couple.numberbaseball.engine.Solver;
+import com.couple.numberbaseball.model.GameRoom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.IntStream;
+
+/**
+ * 힌트 서비스
+ * 플레이어의 남은 정답 후보 수와 다음 추천 추측 계산
+ */
+@Service
+public class HintService {
+
+    @Autowired
+    private GameLogicService gameLogicService;
+
+    // 추측 기록이 없을 때의 추천 결과는 설정 조합마다 같으므로 캐시
+    private final AtomicReferenceArray<Solver.Suggestion> openingSuggestions =
+            new AtomicReferenceArray<>(CodeSpace.slotCount());
+
+    /**
+     * 특정 플레이어를 위한 힌트 계산
+     * @param room 게임 방
+     * @param sessionId 힌트를 요청한 플레이어 세션 ID
+     * @return 힌트 정보
+     * @throws IllegalArgumentException 지원하지 않는 게임 설정
+     */
+    public HintResponseDto getHint(GameRoom room, String sessionId) {
+        JudgeTable table = gameLogicService.judgeTable(room.getSettings());
+        CodeSpace space = table.space();
+
+        // 방이 추측마다 좁혀 온 후보 집합 사용 (기록 재계산 없음)
+        CandidateView candidates = room.getCandidates(sessionId);
+        if (candidates == null) {
+            throw new IllegalArgumentException("해당 방의 플레이어가 아닙니다.");
+        }
+
+        Solver.Suggestion suggestion;
+        if (candidates.size() == space.size()) {
+            suggestion = openingSuggestion(table);
+        } else {
+            suggestion = Solver.suggest(table, candidates.toArray());
+        }
+        if (suggestion == null) {
+            return new HintResponseDto(0, null, 0);
+        }
+
+        return new HintResponseDto(
+                suggestion.remainingCandidates(),
+                space.codeOf(suggestion.guessId()),
+                suggestion.worstCaseRemaining()
+        );
+    }
+
+    private Solver.Suggestion openingSuggestion(JudgeTable table) {
+        int slot = table.space().slot();
+        Solver.Suggestion suggestion = openingSuggestions.get(slot);
+        if (suggestion == null) {
+            int[] all = IntStream.range(0, table.space().size()).toArray();
+            suggestion = Solver.suggest(table, all);
+            openingSuggestions.set(slot, suggestion);
+        }
+        return suggestion;
+    }
+}
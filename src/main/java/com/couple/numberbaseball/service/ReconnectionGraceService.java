@@ -0,0 +1,130 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.util.GameClock;
+import com.couple.numberbaseball.util.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 재접속 유예 관리 서비스
+ * - 연결이 끊긴 플레이어마다 유예 타이머 하나 (다시 끊기면 기존 타이머를 대체)
+ * - 재접속하면 타이머 취소, 유예 시간이 지나면 등록된 만료 처리기 호출
+ * - 타이머는 공유 타이밍 휠에 있으므로 끊김/재접속이 반복되어도 쌓이지 않음
+ */
+@Service
+public class ReconnectionGraceService {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SLOTS = 512;
+
+    // 플레이어 세션 ID -> 유예 정보
+    private final ConcurrentHashMap<String, GracePeriod> gracePeriods = new ConcurrentHashMap<>();
+
+    private final TimingWheel<String> wheel;
+
+    // 유예 시작/만료 판정용 시계
+    private final GameClock clock;
+
+    // 재접속 유예 시간
+    private final long graceSeconds;
+
+    // 유예 만료 처리기 (WebSocket 리스너가 등록)
+    private volatile Consumer<GracePeriod> expiryHandler = gracePeriod -> {};
+
+    // 지표
+    private final AtomicLong startedCount = new AtomicLong();
+    private final AtomicLong cancelledCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    public ReconnectionGraceService(GameClock clock, @Value("${game.reconnect.grace-seconds:300}") long graceSeconds) {
+        this.clock = clock;
+        this.graceSeconds = graceSeconds;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SLOTS, clock.millis());
+    }
+
+    /**
+     * 재접속 유예 시작 (이미 유예 중이면 새 시간으로 대체)
+     * @param playerSessionId 플레이어 세션 ID
+     * @param roomCode 플레이어가 속한 방 코드
+     */
+    public void startGrace(String playerSessionId, String roomCode) {
+        long now = clock.millis();
+        gracePeriods.put(playerSessionId, new GracePeriod(playerSessionId, roomCode));
+        wheel.schedule(playerSessionId, now + TimeUnit.SECONDS.toMillis(graceSeconds));
+        startedCount.incrementAndGet();
+    }
+
+    /**
+     * 재접속 시 유예 취소
+     * @param playerSessionId 플레이어 세션 ID
+     * @return 진행 중이던 유예 정보, 없으면 null
+     */
+    public GracePeriod cancel(String playerSessionId) {
+        GracePeriod gracePeriod = gracePeriods.remove(playerSessionId);
+        if (gracePeriod != null) {
+            wheel.cancel(playerSessionId);
+            cancelledCount.incrementAndGet();
+        }
+        return gracePeriod;
+    }
+
+    /**
+     * 유예 시간이 지난 플레이어 처리 (스케줄러에서 호출)
+     */
+    public void expireDue() {
+        wheel.advance(clock.millis(), playerSessionId -> {
+            GracePeriod gracePeriod = gracePeriods.remove(playerSessionId);
+            if (gracePeriod != null) {
+                expiredCount.incrementAndGet();
+                expiryHandler.accept(gracePeriod);
+            }
+        });
+    }
+
+    /**
+     * 유예 만료 처리기 등록
+     */
+    public void setExpiryHandler(Consumer<GracePeriod> expiryHandler) {
+        this.expiryHandler = expiryHandler;
+    }
+
+    /**
+     * 재접속 대기 중인 플레이어 수
+     */
+    public int getPendingCount() {
+        return gracePeriods.size();
+    }
+
+    public long getStartedCount() {
+        return startedCount.get();
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount.get();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    /**
+     * 연결이 끊어진 플레이어의 유예 정보
+     */
+    public static class GracePeriod {
+        private final String playerSessionId;
+        private final String roomCode;
+
+        public GracePeriod(String playerSessionId, String roomCode) {
+            this.playerSessionId = playerSessionId;
+            this.roomCode = roomCode;
+        }
+
+        public String getPlayerSessionId() { return playerSessionId; }
+        public String getRoomCode() { return roomCode; }
+    }
+}
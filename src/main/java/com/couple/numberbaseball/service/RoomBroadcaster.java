@@ -0,0 +1,80 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.dto.websocket.WebSocketMessageDto;
+import com.couple.numberbaseball.dto.websocket.WebSocketMessageType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 방 이벤트 전송기
+ * - 메시지를 JSON 바이트로 한 번만 직렬화하고, 같은 바이트 배열을 방 구독자 전체에 그대로 사용
+ */
+@Component
+public class RoomBroadcaster {
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 방의 모든 플레이어에게 메시지 브로드캐스트
+     */
+    public <T> void broadcast(String roomCode, WebSocketMessageType messageType, T payload) {
+        sendFrame(roomDestination(roomCode), encode(new WebSocketMessageDto<>(messageType, payload)));
+    }
+
+    /**
+     * 이미 만들어진 메시지 객체를 방 전체에 브로드캐스트
+     */
+    public void broadcastMessage(String roomCode, Object message) {
+        sendFrame(roomDestination(roomCode), encode(message));
+    }
+
+    /**
+     * 특정 플레이어에게 메시지 전송
+     */
+    public <T> void sendToUser(String sessionId, String destination, WebSocketMessageType messageType, T payload) {
+        sendFrameToUser(sessionId, destination, encode(new WebSocketMessageDto<>(messageType, payload)));
+    }
+
+    /**
+     * 직렬화된 프레임을 특정 플레이어에게 전송
+     */
+    public void sendFrameToUser(String sessionId, String destination, byte[] frame) {
+        sendFrame(messagingTemplate.getUserDestinationPrefix() + sessionId.replace("/", "%2F")
+                + (destination.startsWith("/") ? destination : "/" + destination), frame);
+    }
+
+    /**
+     * 메시지를 JSON 바이트로 직렬화
+     */
+    public byte[] encode(Object message) {
+        try {
+            return objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("메시지 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private void sendFrame(String destination, byte[] frame) {
+        // 헤더는 전송마다 새로 만들고 (템플릿이 목적지를 채움) 페이로드 바이트는 공유
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(frame, accessor.getMessageHeaders());
+        messagingTemplate.send(destination, message);
+    }
+
+    private static String roomDestination(String roomCode) {
+        return "/topic/game/" + roomCode + "/sync";
+    }
+}
@@ -0,0 +1,172 @@
+package com.couple.numberbaseball.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 방 단위 직렬 실행기
+ * - 방 코드마다 논리적인 실행 레인(메일박스) 하나, 레인들은 작은 스레드 풀을 나눠 씀
+ * - 같은 방의 명령은 들어온 순서대로 한 번에 하나씩 실행되므로 GameRoom 상태 변경이 선형화됨
+ * - 전역 락이 없으므로 다른 방의 처리를 막지 않음
+ * - 할 일이 없어진 레인은 스스로 맵에서 제거되어 방 수만큼 메모리가 남지 않음
+ */
+@Component
+public class RoomExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomExecutor.class);
+
+    // 레인 하나가 풀 스레드를 점유하고 연속 실행할 최대 작업 수 (다른 방에 양보)
+    private static final int BATCH_SIZE = 32;
+
+    private final ConcurrentHashMap<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final ExecutorService workers;
+
+    // 현재 스레드가 실행 중인 레인의 방 코드
+    private final ThreadLocal<String> currentRoom = new ThreadLocal<>();
+
+    public RoomExecutor(@Value("${game.room.lane-threads:0}") int threads) {
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "room-lane-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 방 레인에 작업 추가 (비동기)
+     * @param roomCode 방 코드
+     * @param task 실행할 작업
+     */
+    public void execute(String roomCode, Runnable task) {
+        Lane lane = lanes.compute(roomCode, (code, existing) -> {
+            Lane target = existing != null ? existing : new Lane(code);
+            target.tasks.add(task);
+            return target;
+        });
+
+        if (lane.started.compareAndSet(false, true)) {
+            workers.execute(lane);
+        }
+    }
+
+    /**
+     * 방 레인에서 작업을 실행하고 결과를 기다림 (REST 요청 처리 스레드용)
+     * - 이미 같은 방 레인 안이면 바로 실행
+     * @param roomCode 방 코드
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws IllegalStateException 다른 방 레인 안에서 호출 (레인끼리 서로 기다리면 교착 위험)
+     */
+    public <T> T call(String roomCode, Supplier<T> task) {
+        String running = currentRoom.get();
+        if (roomCode.equals(running)) {
+            return task.get();
+        }
+        if (running != null) {
+            throw new IllegalStateException("다른 방 레인에서 결과를 기다릴 수 없습니다: " + roomCode);
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        execute(roomCode, () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future.join();
+    }
+
+    /**
+     * 방 레인에서 실행 (같은 레인이면 즉시, 레인 밖이면 완료까지 대기, 다른 레인이면 비동기)
+     * @param roomCode 방 코드
+     * @param task 실행할 작업
+     */
+    public void run(String roomCode, Runnable task) {
+        String running = currentRoom.get();
+        if (roomCode.equals(running)) {
+            task.run();
+        } else if (running != null) {
+            execute(roomCode, task);
+        } else {
+            call(roomCode, () -> {
+                task.run();
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 현재 스레드가 해당 방 레인에서 실행 중인지 확인
+     */
+    public boolean isInLane(String roomCode) {
+        return roomCode != null && roomCode.equals(currentRoom.get());
+    }
+
+    /**
+     * 현재 작업이 남아있는 레인 수
+     */
+    public int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 방 하나의 메일박스
+     */
+    private final class Lane implements Runnable {
+        private final String roomCode;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private Lane(String roomCode) {
+            this.roomCode = roomCode;
+        }
+
+        @Override
+        public void run() {
+            currentRoom.set(roomCode);
+            try {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    Runnable task = tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    try {
+                        task.run();
+                    } catch (Throwable t) {
+                        log.error("방 작업 처리 중 오류 발생 ({})", roomCode, t);
+                    }
+                }
+            } finally {
+                currentRoom.remove();
+            }
+
+            // 비어 있으면 맵에서 제거 (execute의 compute와 같은 키로 직렬화되므로 작업 유실 없음)
+            Lane remaining = lanes.computeIfPresent(roomCode,
+                    (code, lane) -> lane == this && lane.tasks.isEmpty() ? null : lane);
+            if (remaining == this) {
+                workers.execute(this); // 남은 작업은 다음 차례에 (다른 방에 양보)
+            }
+        }
+    }
+}
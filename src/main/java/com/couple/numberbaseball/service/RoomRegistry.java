@@ -0,0 +1,279 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.model.GameRoom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * 샤드 단위 방 저장소
+ * - 방은 방 코드의 해시로, 세션 -> 방 매핑은 세션 ID의 해시로 샤드를 정함
+ * - 조회는 락 없이 (샤드 내부 ConcurrentHashMap), 변경은 관련 샤드 락을 번호 순서대로 잡고 두 색인을 함께 갱신
+ *   -> 방이 없는데 세션 매핑만 남는 식의 불일치가 생기지 않음
+ * - 샤드별 방/세션 수와 변경 횟수를 제공하고, 정리 작업을 샤드 단위로 나눠 병렬 실행 가능
+ */
+@Component
+public class RoomRegistry {
+
+    private final Shard[] shards;
+    private final int mask;
+
+    public RoomRegistry(@Value("${game.room.shards:16}") int shardCount) {
+        int size = Integer.highestOneBit(Math.max(1, shardCount));
+        if (size < shardCount) {
+            size <<= 1;
+        }
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 방 코드가 속한 샤드 번호
+     */
+    public int shardOf(String key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 새 방 등록 (방장 세션 매핑 포함)
+     * @return 같은 코드의 방이 이미 있으면 false
+     */
+    public boolean register(GameRoom room) {
+        String roomCode = room.getRoomId();
+        String creator = room.getCreatorSessionId();
+        int[] locked = lock(shardOf(roomCode), shardOf(creator));
+        try {
+            Shard shard = shards[shardOf(roomCode)];
+            if (shard.rooms.putIfAbsent(roomCode, room) != null) {
+                return false;
+            }
+            shard.roomsCreated.incrementAndGet();
+            bindLocked(creator, roomCode);
+            return true;
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * 세션을 방에 연결 (참가)
+     * @return 방이 없으면 false
+     */
+    public boolean bindSession(String sessionId, String roomCode) {
+        int[] locked = lock(shardOf(roomCode), shardOf(sessionId));
+        try {
+            if (!shards[shardOf(roomCode)].rooms.containsKey(roomCode)) {
+                return false;
+            }
+            bindLocked(sessionId, roomCode);
+            return true;
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * 세션과 방의 연결 해제 (해당 방에 연결되어 있을 때만)
+     */
+    public boolean unbindSession(String sessionId, String roomCode) {
+        Shard shard = shards[shardOf(sessionId)];
+        shard.lock.lock();
+        try {
+            if (shard.sessionToRoom.remove(sessionId, roomCode)) {
+                shard.mutations.incrementAndGet();
+                return true;
+            }
+            return false;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * 방 삭제 (방에 연결된 세션 매핑도 함께 삭제)
+     * @return 삭제된 방, 없으면 null
+     */
+    public GameRoom remove(String roomCode) {
+        GameRoom room = find(roomCode);
+        return room != null && remove(room) ? room : null;
+    }
+
+    /**
+     * 지금 등록된 방이 이 인스턴스일 때만 삭제 (그 사이 같은 코드로 다른 방이 등록되었으면 건드리지 않음)
+     */
+    boolean remove(GameRoom room) {
+        String roomCode = room.getRoomId();
+        String creator = room.getCreatorSessionId();
+        String joiner = room.getJoinerSessionId();
+        int[] locked = lock(shardOf(roomCode),
+                creator != null ? shardOf(creator) : -1,
+                joiner != null ? shardOf(joiner) : -1);
+        try {
+            Shard shard = shards[shardOf(roomCode)];
+            if (!shard.rooms.remove(roomCode, room)) {
+                return false;
+            }
+            shard.roomsRemoved.incrementAndGet();
+            unbindLocked(creator, roomCode);
+            unbindLocked(joiner, roomCode);
+            return true;
+        } finally {
+            unlock(locked);
+        }
+    }
+
+    /**
+     * 이미 등록된 방만 교체 (삭제된 방은 되살리지 않음)
+     */
+    public boolean replace(GameRoom room) {
+        String roomCode = room.getRoomId();
+        return shards[shardOf(roomCode)].rooms.replace(roomCode, room) != null;
+    }
+
+    public GameRoom find(String roomCode) {
+        return shards[shardOf(roomCode)].rooms.get(roomCode);
+    }
+
+    /**
+     * 세션이 참여 중인 방 코드
+     * @return 방 코드, 없으면 null
+     */
+    public String roomCodeOf(String sessionId) {
+        return shards[shardOf(sessionId)].sessionToRoom.get(sessionId);
+    }
+
+    public GameRoom findBySession(String sessionId) {
+        String roomCode = roomCodeOf(sessionId);
+        return roomCode != null ? find(roomCode) : null;
+    }
+
+    /**
+     * 전체 방 수
+     */
+    public int size() {
+        int total = 0;
+        for (Shard shard : shards) {
+            total += shard.rooms.size();
+        }
+        return total;
+    }
+
+    /**
+     * 모든 방의 복사본 (디버깅용)
+     */
+    public Map<String, GameRoom> snapshot() {
+        Map<String, GameRoom> copy = new HashMap<>();
+        for (Shard shard : shards) {
+            copy.putAll(shard.rooms);
+        }
+        return copy;
+    }
+
+    /**
+     * 샤드마다 작업을 병렬 실행 (샤드 번호를 넘김)
+     */
+    public void forEachShardParallel(Consumer<Integer> task) {
+        IntStream.range(0, shards.length).parallel().forEach(task::accept);
+    }
+
+    /**
+     * 샤드별 통계
+     */
+    public List<ShardStats> getShardStats() {
+        List<ShardStats> stats = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            Shard shard = shards[i];
+            stats.add(new ShardStats(i, shard.rooms.size(), shard.sessionToRoom.size(),
+                    shard.roomsCreated.get(), shard.roomsRemoved.get(), shard.mutations.get()));
+        }
+        return stats;
+    }
+
+    private void bindLocked(String sessionId, String roomCode) {
+        Shard shard = shards[shardOf(sessionId)];
+        shard.sessionToRoom.put(sessionId, roomCode);
+        shard.mutations.incrementAndGet();
+    }
+
+    private void unbindLocked(String sessionId, String roomCode) {
+        if (sessionId != null) {
+            Shard shard = shards[shardOf(sessionId)];
+            if (shard.sessionToRoom.remove(sessionId, roomCode)) {
+                shard.mutations.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 샤드 락을 번호 오름차순으로 획득 (중복/음수 제외) -> 교착 없음
+     * @return 잡은 샤드 번호들 (unlock에 전달)
+     */
+    private int[] lock(int... indices) {
+        int[] sorted = Arrays.stream(indices).filter(i -> i >= 0).sorted().distinct().toArray();
+        for (int index : sorted) {
+            shards[index].lock.lock();
+        }
+        return sorted;
+    }
+
+    private void unlock(int[] locked) {
+        for (int i = locked.length - 1; i >= 0; i--) {
+            shards[locked[i]].lock.unlock();
+        }
+    }
+
+    private static final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ConcurrentHashMap<String, GameRoom> rooms = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, String> sessionToRoom = new ConcurrentHashMap<>();
+        private final AtomicLong roomsCreated = new AtomicLong();
+        private final AtomicLong roomsRemoved = new AtomicLong();
+        private final AtomicLong mutations = new AtomicLong();
+    }
+
+    /**
+     * 샤드 하나의 통계
+     */
+    public static class ShardStats {
+        private final int shard;
+        private final int rooms;
+        private final int sessions;
+        private final long roomsCreated;
+        private final long roomsRemoved;
+        private final long sessionMutations;
+
+        public ShardStats(int shard, int rooms, int sessions, long roomsCreated, long roomsRemoved, long sessionMutations) {
+            this.shard = shard;
+            this.rooms = rooms;
+            this.sessions = sessions;
+            this.roomsCreated = roomsCreated;
+            this.roomsRemoved = roomsRemoved;
+            this.sessionMutations = sessionMutations;
+        }
+
+        public int getShard() { return shard; }
+        public int getRooms() { return rooms; }
+        public int getSessions() { return sessions; }
+        public long getRoomsCreated() { return roomsCreated; }
+        public long getRoomsRemoved() { return roomsRemoved; }
+        public long getSessionMutations() { return sessionMutations; }
+    }
+}
@@ -1,19 +1,59 @@
 package com.couple.numberbaseball.service;
 
+import com.couple.numberbaseball.util.ConcurrentLongMap;
+import com.couple.numberbaseball.util.GameClock;
+import com.couple.numberbaseball.util.SessionIds;
+import com.couple.numberbaseball.util.TimingWheel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 세션 관리 서비스
  * 플레이어 세션 ID 생성 및 관리
+ * - 마지막 접근 후 game.session.timeout-minutes 동안 사용되지 않은 세션은 정리
+ * - 만료 후보는 타이밍 휠에 세션당 하나씩만 두고, 만료 시각에 마지막 접근 시간을 다시 확인 (지연 재확인)
+ * - 세션 ID는 내부에서 64비트 long으로 다루고, 외부에는 11자리 문자열로만 노출
  */
 @Service
 public class SessionService {
 
+    private static final Logger log = LoggerFactory.getLogger(SessionService.class);
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SLOTS = 512;
+
+    // 마지막 접근 시간 갱신 최소 간격 (매 요청마다 쓰지 않도록)
+    private static final long TOUCH_GRANULARITY_MILLIS = 1000;
+
     // 세션 ID -> 플레이어 정보 매핑
-    private final ConcurrentHashMap<String, PlayerSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentLongMap<PlayerSession> sessions = new ConcurrentLongMap<>();
+
+    // 접근 시간/만료 판정용 시계
+    private final GameClock clock;
+
+    // 세션 만료 확인 시각
+    private final TimingWheel<String> expiryWheel;
+
+    private final long sessionTimeoutMinutes;
+
+    @Autowired
+    private GameRoomService gameRoomService;
+
+    // 지표
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    public SessionService(GameClock clock, @Value("${game.session.timeout-minutes:30}") long sessionTimeoutMinutes) {
+        this.clock = clock;
+        this.sessionTimeoutMinutes = sessionTimeoutMinutes;
+        this.expiryWheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SLOTS, clock.millis());
+    }
 
     /**
      * 새 세션 생성
@@ -21,9 +61,16 @@ public class SessionService {
      * @return 생성된 세션 ID
      */
     public String createSession(String nickname) {
-        String sessionId = generateSessionId();
-        PlayerSession playerSession = new PlayerSession(sessionId, nickname);
-        sessions.put(sessionId, playerSession);
+        PlayerSession playerSession;
+        do {
+            // 충돌하면 (2^-64 확률) 새 ID로 다시 시도
+            long id = SessionIds.next();
+            playerSession = new PlayerSession(id, SessionIds.encode(id), nickname, clock.millis());
+        } while (sessions.putIfAbsent(playerSession.getId(), playerSession) != null);
+
+        String sessionId = playerSession.getSessionId();
+        expiryWheel.schedule(sessionId, playerSession.getLastAccessMillis() + getTimeoutMillis());
+        createdCount.incrementAndGet();
         return sessionId;
     }
 
@@ -33,7 +80,8 @@ public class SessionService {
      * @return 플레이어 세션 정보, 없으면 null
      */
     public PlayerSession getSession(String sessionId) {
-        return sessions.get(sessionId);
+        long id = SessionIds.decode(sessionId);
+        return id != 0L ? sessions.get(id) : null;
     }
 
     /**
@@ -42,7 +90,12 @@ public class SessionService {
      * @return 존재하면 true
      */
     public boolean isValidSession(String sessionId) {
-        return sessions.containsKey(sessionId);
+        PlayerSession session = getSession(sessionId);
+        if (session == null) {
+            return false;
+        }
+        session.touch(clock.millis());
+        return true;
     }
 
     /**
@@ -50,7 +103,9 @@ public class SessionService {
      * @param sessionId 세션 ID
      */
     public void removeSession(String sessionId) {
-        sessions.remove(sessionId);
+        if (sessions.remove(SessionIds.decode(sessionId)) != null) {
+            expiryWheel.cancel(sessionId);
+        }
     }
 
     /**
@@ -59,21 +114,13 @@ public class SessionService {
      * @return 닉네임, 없으면 "Player"
      */
     public String getPlayerNickname(String sessionId) {
-        PlayerSession session = sessions.get(sessionId);
+        PlayerSession session = getSession(sessionId);
         if (session != null && session.getNickname() != null) {
             return session.getNickname();
         }
         return "Player"; // 기본 닉네임
     }
 
-    /**
-     * 유니크한 세션 ID 생성
-     * @return 생성된 세션 ID
-     */
-    private String generateSessionId() {
-        return "session-" + UUID.randomUUID().toString().substring(0, 8);
-    }
-
     /**
      * 현재 활성 세션 수 조회
      * @return 활성 세션 수
@@ -83,25 +130,86 @@ public class SessionService {
     }
 
     /**
-     * 세션 정리 (필요시)
+     * 만료 확인 시각이 된 세션 정리 (스케줄러에서 호출)
+     * - 그 사이 접근이 있었거나 방에 참여 중이면 다음 만료 시각으로 다시 등록
+     * @return 정리된 세션 수
      */
-    public void cleanupSessions() {
-        // 현재는 단순하게 모든 세션을 유지
-        // 추후 TTL이나 마지막 활동 시간 기반으로 정리 로직 추가 가능
+    public int cleanupSessions() {
+        long now = clock.millis();
+        long timeoutMillis = getTimeoutMillis();
+        int[] evicted = new int[1];
+
+        expiryWheel.advance(now, sessionId -> {
+            PlayerSession session = getSession(sessionId);
+            if (session == null) {
+                return;
+            }
+
+            long deadline = session.getLastAccessMillis() + timeoutMillis;
+            if (deadline > now) {
+                expiryWheel.schedule(sessionId, deadline);
+            } else if (gameRoomService.findRoomBySessionId(sessionId) != null) {
+                expiryWheel.schedule(sessionId, now + timeoutMillis);
+            } else if (sessions.remove(session.getId(), session) != null) {
+                evicted[0]++;
+            }
+        });
+
+        if (evicted[0] > 0) {
+            long totalEvicted = evictedCount.addAndGet(evicted[0]);
+            log.info("만료된 세션 정리: {}개 (누적 생성 {}, 누적 정리 {})",
+                    evicted[0], createdCount.get(), totalEvicted);
+        }
+        return evicted[0];
+    }
+
+    private long getTimeoutMillis() {
+        return TimeUnit.MINUTES.toMillis(sessionTimeoutMinutes);
+    }
+
+    /**
+     * 지금까지 생성된 세션 수
+     */
+    public long getCreatedCount() {
+        return createdCount.get();
+    }
+
+    /**
+     * 만료로 정리된 세션 수
+     */
+    public long getEvictedCount() {
+        return evictedCount.get();
     }
 
     /**
      * 플레이어 세션 정보 클래스
      */
     public static class PlayerSession {
+        private final long id;
         private final String sessionId;
         private final String nickname;
         private final long createdAt;
+        private volatile long lastAccessMillis;
 
-        public PlayerSession(String sessionId, String nickname) {
+        public PlayerSession(long id, String sessionId, String nickname, long createdAt) {
+            this.id = id;
             this.sessionId = sessionId;
             this.nickname = nickname;
-            this.createdAt = System.currentTimeMillis();
+            this.createdAt = createdAt;
+            this.lastAccessMillis = createdAt;
+        }
+
+        /**
+         * 마지막 접근 시간 갱신 (이전 갱신 후 일정 시간이 지났을 때만 기록)
+         */
+        public void touch(long nowMillis) {
+            if (nowMillis - lastAccessMillis >= TOUCH_GRANULARITY_MILLIS) {
+                lastAccessMillis = nowMillis;
+            }
+        }
+
+        public long getId() {
+            return id;
         }
 
         public String getSessionId() {
@@ -116,6 +224,10 @@ public class SessionService {
             return createdAt;
         }
 
+        public long getLastAccessMillis() {
+            return lastAccessMillis;
+        }
+
         @Override
         public String toString() {
             return String.format("PlayerSession{sessionId='%s', nickname='%s'}",
@@ -0,0 +1,45 @@
+package com.couple.numberbaseball.util;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 틱마다 갱신되는 거친 시계
+ * - 데몬 스레드 하나가 tickMillis마다 현재 시각을 volatile 필드에 기록, millis()는 그 값을 읽기만 함
+ * - 상태가 바뀔 때마다 시스템 시계를 읽지 않으므로 호출 비용이 필드 읽기 하나 (오차는 최대 한 틱)
+ * - nanos()는 시스템 단조 시계를 그대로 사용 (구간 측정은 정밀해야 하므로)
+ */
+public class CoarseClock implements GameClock, AutoCloseable {
+
+    private final ScheduledExecutorService ticker;
+    private volatile long currentMillis = System.currentTimeMillis();
+
+    public CoarseClock(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("시계 틱 간격은 0보다 커야 합니다.");
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coarse-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> currentMillis = System.currentTimeMillis(),
+                tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public long millis() {
+        return currentMillis;
+    }
+
+    @Override
+    public long nanos() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
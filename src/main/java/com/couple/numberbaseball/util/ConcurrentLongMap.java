@@ -0,0 +1,256 @@
+package com.couple.numberbaseball.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 키 전용 동시성 해시 맵
+ * - 키를 박싱하지 않고 long[] 배열에 그대로 저장 (선형 탐사 오픈 어드레싱)
+ * - 세그먼트마다 StampedLock 하나, 조회는 낙관적 읽기로 대부분 락 없이 처리
+ * - 키 0은 빈 칸 표시로 쓰므로 저장할 수 없음
+ *
+ * @param <V> 값 타입
+ */
+public class ConcurrentLongMap<V> {
+
+    private static final int DEFAULT_SEGMENTS = 32;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+    private final int segmentShift;
+    private final AtomicInteger size = new AtomicInteger();
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    /**
+     * @param segmentCount 세그먼트 수 (2의 거듭제곱으로 올림)
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLongMap(int segmentCount) {
+        int count = Integer.highestOneBit(Math.max(1, segmentCount));
+        if (count < segmentCount) {
+            count <<= 1;
+        }
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>();
+        }
+        // 해시 상위 비트로 세그먼트, 하위 비트로 칸을 고름
+        this.segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+    }
+
+    /**
+     * 값 조회
+     * @return 값, 없으면 null
+     */
+    public V get(long key) {
+        long hash = mix(key);
+        Segment<V> segment = segmentFor(hash);
+
+        long stamp = segment.lock.tryOptimisticRead();
+        V value = segment.find(key, hash);
+        if (!segment.lock.validate(stamp)) {
+            stamp = segment.lock.readLock();
+            try {
+                value = segment.find(key, hash);
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+        }
+        return value;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * 키가 없을 때만 저장
+     * @return 기존 값, 새로 저장했으면 null
+     */
+    public V putIfAbsent(long key, V value) {
+        checkKey(key);
+        if (value == null) {
+            throw new NullPointerException("값은 null일 수 없습니다.");
+        }
+
+        long hash = mix(key);
+        Segment<V> segment = segmentFor(hash);
+        long stamp = segment.lock.writeLock();
+        try {
+            V existing = segment.find(key, hash);
+            if (existing != null) {
+                return existing;
+            }
+            segment.insert(key, hash, value);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+        size.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 값 삭제
+     * @return 삭제된 값, 없으면 null
+     */
+    public V remove(long key) {
+        return remove(key, null);
+    }
+
+    /**
+     * 현재 값이 expected와 같은 객체일 때만 삭제 (expected가 null이면 무조건 삭제)
+     * @return 삭제된 값, 삭제하지 않았으면 null
+     */
+    public V remove(long key, V expected) {
+        if (key == 0L) {
+            return null;
+        }
+
+        long hash = mix(key);
+        Segment<V> segment = segmentFor(hash);
+        V removed;
+        long stamp = segment.lock.writeLock();
+        try {
+            removed = segment.delete(key, hash, expected);
+        } finally {
+            segment.lock.unlockWrite(stamp);
+        }
+        if (removed != null) {
+            size.decrementAndGet();
+        }
+        return removed;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments.length == 1 ? segments[0] : segments[(int) (hash >>> segmentShift)];
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0L) {
+            throw new IllegalArgumentException("키 0은 저장할 수 없습니다.");
+        }
+    }
+
+    // 64비트 해시 섞기 (MurmurHash3 fmix64)
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * 세그먼트 하나 (키/값 배열을 한 객체로 묶어 교체하므로 낙관적 읽기에서 길이가 어긋나지 않음)
+     */
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        private Table table = new Table(INITIAL_SEGMENT_CAPACITY);
+        private int count;
+
+        @SuppressWarnings("unchecked")
+        V find(long key, long hash) {
+            Table t = table;
+            long[] keys = t.keys;
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            for (int probe = 0; probe < keys.length; probe++) {
+                long k = keys[index];
+                if (k == key) {
+                    return (V) t.values[index];
+                }
+                if (k == 0L) {
+                    return null;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        void insert(long key, long hash, V value) {
+            // 채움률 2/3 초과 시 두 배로 확장
+            if ((count + 1) * 3 > table.keys.length * 2) {
+                resize();
+            }
+            place(table, key, hash, value);
+            count++;
+        }
+
+        V delete(long key, long hash, V expected) {
+            Table t = table;
+            long[] keys = t.keys;
+            int mask = keys.length - 1;
+            int index = (int) hash & mask;
+            while (keys[index] != key) {
+                if (keys[index] == 0L) {
+                    return null;
+                }
+                index = (index + 1) & mask;
+            }
+
+            @SuppressWarnings("unchecked")
+            V current = (V) t.values[index];
+            if (expected != null && current != expected) {
+                return null;
+            }
+
+            // 뒤쪽 항목을 당겨 탐사 사슬을 유지 (삭제 표시 없이)
+            int hole = index;
+            int next = (hole + 1) & mask;
+            while (keys[next] != 0L) {
+                int home = (int) mix(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    t.values[hole] = t.values[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = 0L;
+            t.values[hole] = null;
+            count--;
+            return current;
+        }
+
+        private void resize() {
+            Table old = table;
+            Table grown = new Table(old.keys.length << 1);
+            for (int i = 0; i < old.keys.length; i++) {
+                long k = old.keys[i];
+                if (k != 0L) {
+                    place(grown, k, mix(k), old.values[i]);
+                }
+            }
+            table = grown;
+        }
+
+        private static void place(Table t, long key, long hash, Object value) {
+            int mask = t.keys.length - 1;
+            int index = (int) hash & mask;
+            while (t.keys[index] != 0L) {
+                index = (index + 1) & mask;
+            }
+            t.values[index] = value;
+            t.keys[index] = key;
+        }
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+        }
+    }
+}
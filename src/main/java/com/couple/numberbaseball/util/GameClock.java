@@ -0,0 +1,29 @@
+package com.couple.numberbaseball.util;
+
+/**
+ * 서버 시계
+ * - millis(): 활동 시간/만료 판정용 epoch 밀리초 (구현에 따라 수 밀리초 단위로 거칠 수 있음)
+ * - nanos(): 경과 시간 측정용 단조 증가 값 (epoch와 무관)
+ * - 테스트에서는 직접 시간을 움직이는 구현으로 바꿔 만료 로직을 결정적으로 확인
+ */
+public interface GameClock {
+
+    /**
+     * 매번 시스템 시계를 읽는 기본 구현 (스프링 밖에서 만든 객체용)
+     */
+    GameClock SYSTEM = new GameClock() {
+        @Override
+        public long millis() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public long nanos() {
+            return System.nanoTime();
+        }
+    };
+
+    long millis();
+
+    long nanos();
+}
@@ -0,0 +1,140 @@
+package com.couple.numberbaseball.util;
+
+import java.security.SecureRandom;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 6자리 방 코드 할당기 (영문 대문자 + 숫자, 36^6 개)
+ * - 증가하는 카운터를 키가 있는 Feistel 순열로 섞어 코드로 변환 -> 재시도 없이 항상 서로 다른 코드
+ * - 순열 키는 서버 시작 시 임의로 정하므로 코드 순서를 예측할 수 없음
+ * - 반납된 코드는 격리 시간이 지난 뒤 재사용 (이전 방 코드를 가진 클라이언트가 새 방에 들어가지 않도록)
+ * - 카운터 증가와 큐 연산뿐이라 락이 없음
+ */
+public class RoomCodeAllocator {
+
+    public static final int CODE_LENGTH = 6;
+
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+    private static final long SPACE = 36L * 36 * 36 * 36 * 36 * 36; // 2,176,782,336 < 2^32
+    private static final int ROUNDS = 4;
+
+    private final int[] roundKeys = new int[ROUNDS];
+    private final AtomicLong counter = new AtomicLong();
+    private final long quarantineMillis;
+    private final GameClock clock;
+
+    // 반납 순서대로 쌓이므로 맨 앞만 보면 됨
+    private final Queue<Released> released = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger releasedCount = new AtomicInteger();
+    private final AtomicLong reusedCount = new AtomicLong();
+
+    /**
+     * @param quarantineMillis 반납된 코드를 다시 쓰기까지 기다릴 시간 (밀리초)
+     * @param clock 격리 시간 판정용 시계
+     */
+    public RoomCodeAllocator(long quarantineMillis, GameClock clock) {
+        SecureRandom random = new SecureRandom();
+        for (int i = 0; i < ROUNDS; i++) {
+            roundKeys[i] = random.nextInt();
+        }
+        this.quarantineMillis = quarantineMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 새 방 코드 할당
+     * @return 현재 할당된 다른 어떤 코드와도 겹치지 않는 코드
+     * @throws IllegalStateException 코드 공간 소진
+     */
+    public String allocate() {
+        Released head = released.peek();
+        if (head != null && head.releasedAt + quarantineMillis <= clock.millis()
+                && released.remove(head)) {
+            releasedCount.decrementAndGet();
+            reusedCount.incrementAndGet();
+            return head.code;
+        }
+
+        long index = counter.getAndIncrement();
+        if (index >= SPACE) {
+            throw new IllegalStateException("사용 가능한 방 코드가 없습니다.");
+        }
+        return encode(permute(index));
+    }
+
+    /**
+     * 더 이상 쓰지 않는 코드 반납 (격리 시간 후 재사용)
+     */
+    public void release(String code) {
+        released.add(new Released(code, clock.millis()));
+        releasedCount.incrementAndGet();
+    }
+
+    /**
+     * 재사용을 기다리는 코드 수
+     */
+    public int getQuarantinedCount() {
+        return releasedCount.get();
+    }
+
+    /**
+     * 반납 후 재사용된 코드 수
+     */
+    public long getReusedCount() {
+        return reusedCount.get();
+    }
+
+    /**
+     * [0, SPACE) 위의 순열
+     * - 32비트 Feistel 순열을 적용하고, 결과가 범위를 벗어나면 다시 적용 (cycle walking)
+     * - 범위 안 값에서 시작한 순환은 반드시 범위 안 값으로 돌아오므로 전단사가 유지됨
+     */
+    private long permute(long index) {
+        long value = index;
+        do {
+            value = feistel(value);
+        } while (value >= SPACE);
+        return value;
+    }
+
+    private long feistel(long value) {
+        int left = (int) (value >>> 16) & 0xFFFF;
+        int right = (int) value & 0xFFFF;
+        for (int key : roundKeys) {
+            int next = left ^ round(right, key);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 16) | right;
+    }
+
+    private static int round(int half, int key) {
+        int h = (half ^ key) * 0x9E3779B1;
+        h ^= h >>> 15;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h & 0xFFFF;
+    }
+
+    private static String encode(long value) {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value % 36)];
+            value /= 36;
+        }
+        return new String(chars);
+    }
+
+    private static final class Released {
+        private final String code;
+        private final long releasedAt;
+
+        private Released(String code, long releasedAt) {
+            this.code = code;
+            this.releasedAt = releasedAt;
+        }
+    }
+}
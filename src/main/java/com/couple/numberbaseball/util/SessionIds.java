@@ -0,0 +1,88 @@
+package com.couple.numberbaseball.util;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * 64비트 세션 ID 생성 및 문자열 변환
+ * - 내부에서는 long 그대로 사용, API 경계에서만 11자리 URL-safe base64 문자열로 변환
+ * - 스레드마다 독립된 DRBG SecureRandom 하나 (상태를 인스턴스마다 따로 가지므로 스레드 간 경합 없음)
+ *   기본 NativePRNG는 인스턴스를 여러 개 만들어도 내부 상태 하나를 공유해 잠금을 함께 탐
+ * - 0은 "없음" 표시로 쓰므로 발급하지 않음
+ */
+public final class SessionIds {
+
+    /** 문자열 형태 길이 (64비트 / 6비트, 올림) */
+    public static final int LENGTH = 11;
+
+    private static final char[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    // 문자 -> 6비트 값, 알파벳이 아니면 -1
+    private static final byte[] DECODE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE, (byte) -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(SessionIds::newRandom);
+
+    private SessionIds() {}
+
+    /**
+     * 0이 아닌 임의의 64비트 ID 생성
+     */
+    public static long next() {
+        SecureRandom random = RANDOM.get();
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0L);
+        return id;
+    }
+
+    private static SecureRandom newRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom(); // DRBG가 없는 JDK (9 미만)
+        }
+    }
+
+    /**
+     * ID를 11자리 문자열로 변환 (첫 글자는 상위 4비트, 이후 6비트씩)
+     */
+    public static String encode(long id) {
+        char[] chars = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 0x3F)];
+            id >>>= 6;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 문자열을 ID로 변환
+     * @return ID, 형식이 맞지 않으면 0
+     */
+    public static long decode(CharSequence text) {
+        if (text == null || text.length() != LENGTH) {
+            return 0L;
+        }
+
+        long id = 0L;
+        for (int i = 0; i < LENGTH; i++) {
+            char c = text.charAt(i);
+            int v = c < 128 ? DECODE[c] : -1;
+            if (v < 0 || (i == 0 && v > 0x0F)) {
+                return 0L;
+            }
+            id = (id << 6) | v;
+        }
+        return id;
+    }
+}
@@ -0,0 +1,164 @@
+package com.couple.numberbaseball.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 키 단위 해시 타이밍 휠
+ * - 만료 시각을 틱 단위 버킷(원형 배열)에 나눠 담고, 틱마다 해당 버킷만 확인
+ * - 등록/취소 O(1), 만료 처리는 틱당 버킷 크기만큼 (전체 스캔 없음)
+ * - 같은 키를 다시 등록하면 기존 타이머를 대체 (키당 타이머 최대 1개)
+ * - 휠 한 바퀴보다 먼 만료 시각은 버킷에 남아 있다가 시각이 되었을 때 만료
+ *
+ * @param <K> 타이머 키 타입
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Entry<K>[] buckets;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+
+    private long currentTick;   // 마지막으로 처리한 틱
+
+    /**
+     * @param tickMillis 틱 간격 (밀리초)
+     * @param slots 버킷 수 (2의 거듭제곱으로 올림)
+     * @param startMillis 시작 시각 (밀리초)
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int slots, long startMillis) {
+        if (tickMillis <= 0 || slots <= 0) {
+            throw new IllegalArgumentException("틱 간격과 버킷 수는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(slots);
+        if (size < slots) {
+            size <<= 1;
+        }
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.buckets = new Entry[size];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * 타이머 등록 (같은 키가 있으면 대체)
+     * @param key 타이머 키
+     * @param deadlineMillis 만료 시각 (밀리초)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        Entry<K> entry = entries.get(key);
+        if (entry != null) {
+            unlink(entry);
+        } else {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+        }
+
+        // 만료 시각 이후 첫 틱의 버킷에 담음 (이미 지난 시각이면 다음 틱)
+        long tick = Math.max(Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        entry.deadline = deadlineMillis;
+        link(entry, (int) (tick & mask));
+    }
+
+    /**
+     * 타이머 취소
+     * @param key 타이머 키
+     * @return 등록되어 있었으면 true
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * 현재 시각까지 휠을 돌리며 만료된 키 처리
+     * 콜백은 휠 잠금 밖에서 호출되므로 콜백 안에서 다시 등록/취소해도 됨
+     * @param nowMillis 현재 시각 (밀리초)
+     * @param onExpired 만료된 키 처리 콜백
+     * @return 만료된 키 수
+     */
+    public int advance(long nowMillis, Consumer<K> onExpired) {
+        List<K> expired = new ArrayList<>();
+
+        synchronized (this) {
+            long targetTick = nowMillis / tickMillis;
+            // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인
+            long fromTick = Math.max(currentTick + 1, targetTick - mask);
+            for (long tick = fromTick; tick <= targetTick; tick++) {
+                expireBucket((int) (tick & mask), nowMillis, expired);
+            }
+            currentTick = Math.max(currentTick, targetTick);
+        }
+
+        for (K key : expired) {
+            onExpired.accept(key);
+        }
+        return expired.size();
+    }
+
+    /**
+     * 등록된 타이머 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void expireBucket(int index, long nowMillis, List<K> expired) {
+        Entry<K> entry = buckets[index];
+        while (entry != null) {
+            Entry<K> next = entry.next;
+            if (entry.deadline <= nowMillis) {
+                unlink(entry);
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+            entry = next;
+        }
+    }
+
+    private void link(Entry<K> entry, int index) {
+        entry.bucket = index;
+        entry.prev = null;
+        entry.next = buckets[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        buckets[index] = entry;
+    }
+
+    private void unlink(Entry<K> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+    }
+
+    /**
+     * 버킷 안의 이중 연결 리스트 노드
+     */
+    private static final class Entry<K> {
+        private final K key;
+        private long deadline;
+        private int bucket;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+}
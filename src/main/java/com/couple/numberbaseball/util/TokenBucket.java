@@ -0,0 +1,48 @@
+package com.couple.numberbaseball.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷
+ * - 상태는 "다음 토큰이 생기는 이론상 시각" long 하나 (GCRA 방식), CAS 한 번으로 갱신
+ * - 초당 ratePerSecond 개씩 채워지고 최대 burst 개까지 한 번에 쓸 수 있음
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;   // 토큰 하나가 채워지는 시간
+    private final long burstNanos;      // 허용되는 최대 선사용 시간 (burst 개 분량)
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        if (ratePerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("초당 토큰 수와 버스트 크기는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * @return 남은 토큰이 없으면 false
+     */
+    public boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            if (next - nowNanos > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 채로 idleNanos 이상 지났는지 (더 이상 상태를 들고 있을 필요가 없음)
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrival.get() >= idleNanos;
+    }
+}
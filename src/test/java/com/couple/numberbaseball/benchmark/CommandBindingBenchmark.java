@@ -0,0 +1,59 @@
+package com.couple.numberbaseball.benchmark;
+
+import com.couple.numberbaseball.dto.websocket.GuessCommandDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추측 명령 역직렬화 비교: Map 바인딩 vs 스트리밍 역직렬화 DTO
+ * 실행: mvn test-compile 후 main 실행 (IDE 또는 exec 플러그인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommandBindingBenchmark {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        payload = "{\"sessionId\":\"AbCdEfGhIjK\",\"guess\":\"1234\",\"version\":42}"
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object mapBinding() throws IOException {
+        Map<String, Object> message = objectMapper.readValue(payload, MAP_TYPE);
+        Object version = message.get("version");
+        return (String) message.get("guess") + (version instanceof Number ? ((Number) version).longValue() : -1L);
+    }
+
+    @Benchmark
+    public Object typedCommand() throws IOException {
+        GuessCommandDto command = objectMapper.readValue(payload, GuessCommandDto.class);
+        return command.getGuess() + command.getVersion();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CommandBindingBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
@@ -0,0 +1,67 @@
+package com.couple.numberbaseball.dto.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CommandDeserializerTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void readsKnownFields() throws Exception {
+		GuessCommandDto dto = objectMapper.readValue(
+				"{\"sessionId\":\"s1\",\"guess\":\"123\",\"version\":7}", GuessCommandDto.class);
+		assertEquals("s1", dto.getSessionId());
+		assertEquals("123", dto.getGuess());
+		assertEquals(7, dto.getVersion());
+	}
+
+	@Test
+	void skipsUnknownNestedValues() throws Exception {
+		GuessCommandDto dto = objectMapper.readValue(
+				"{\"meta\":{\"guess\":\"999\",\"list\":[1,{\"version\":3}]},\"sessionId\":\"s1\","
+						+ "\"tags\":[[\"a\"],{}],\"guess\":\"123\",\"version\":7}", GuessCommandDto.class);
+		assertEquals("s1", dto.getSessionId());
+		assertEquals("123", dto.getGuess());
+		assertEquals(7, dto.getVersion());
+	}
+
+	@Test
+	void nestedValueInKnownStringFieldIsSkipped() throws Exception {
+		GuessCommandDto dto = objectMapper.readValue(
+				"{\"guess\":{\"sessionId\":\"inner\",\"guess\":\"999\"},\"sessionId\":[\"x\",{\"y\":1}],"
+						+ "\"version\":5}", GuessCommandDto.class);
+		assertNull(dto.getGuess());
+		assertNull(dto.getSessionId());
+		assertEquals(5, dto.getVersion());
+	}
+
+	@Test
+	void nestedValueInVersionFieldIsSkipped() throws Exception {
+		GuessCommandDto dto = objectMapper.readValue(
+				"{\"version\":{\"guess\":\"999\"},\"guess\":\"123\"}", GuessCommandDto.class);
+		assertEquals("123", dto.getGuess());
+		assertFalse(dto.hasVersion());
+
+		dto = objectMapper.readValue("{\"version\":[1,[2]],\"sessionId\":\"s1\"}", GuessCommandDto.class);
+		assertEquals("s1", dto.getSessionId());
+		assertFalse(dto.hasVersion());
+	}
+
+	@Test
+	void nestedValuesInOtherCommandsAreSkipped() throws Exception {
+		ReadyCommandDto ready = objectMapper.readValue(
+				"{\"ready\":{\"ready\":true},\"sessionId\":\"s1\"}", ReadyCommandDto.class);
+		assertEquals("s1", ready.getSessionId());
+		assertNull(ready.getReady());
+
+		SyncCommandDto sync = objectMapper.readValue(
+				"{\"sinceTurn\":[3],\"sessionId\":\"s1\"}", SyncCommandDto.class);
+		assertEquals("s1", sync.getSessionId());
+	}
+
+}
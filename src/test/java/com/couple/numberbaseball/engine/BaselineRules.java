@@ -0,0 +1,72 @@
+package com.couple.numberbaseball.engine;
+
+import com.couple.numberbaseball.model.GameSettings;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 최적화 이전의 판정/검증 규칙 (골든 테스트 기준)
+ */
+public final class BaselineRules {
+
+	private BaselineRules() {}
+
+	/**
+	 * 기존 문자열 판정 (스트라이크 자리 표시 후 남은 자리끼리 한 번씩 짝지어 볼 계산)
+	 * @return {@link JudgeResult} 형식의 판정 결과
+	 */
+	public static int judge(String guess, String answer) {
+		int strikes = 0;
+		int balls = 0;
+		boolean[] guessUsed = new boolean[guess.length()];
+		boolean[] answerUsed = new boolean[answer.length()];
+
+		for (int i = 0; i < guess.length(); i++) {
+			if (guess.charAt(i) == answer.charAt(i)) {
+				strikes++;
+				guessUsed[i] = true;
+				answerUsed[i] = true;
+			}
+		}
+		for (int i = 0; i < guess.length(); i++) {
+			if (!guessUsed[i]) {
+				for (int j = 0; j < answer.length(); j++) {
+					if (!answerUsed[j] && guess.charAt(i) == answer.charAt(j)) {
+						balls++;
+						answerUsed[j] = true;
+						break;
+					}
+				}
+			}
+		}
+		return JudgeResult.of(strikes, balls);
+	}
+
+	/**
+	 * 기존 입력 검증 (정규식 + 문자 집합)
+	 */
+	public static boolean isValidInput(String input, GameSettings settings) {
+		if (input == null || input.length() != settings.getDigits()) {
+			return false;
+		}
+		if (!input.matches("\\d+")) {
+			return false;
+		}
+		if (!settings.isAllowZero() && input.contains("0")) {
+			return false;
+		}
+		if (input.charAt(0) == '0') {
+			return false;
+		}
+		if (!settings.isAllowDuplicate()) {
+			Set<Character> uniqueChars = new HashSet<>();
+			for (char c : input.toCharArray()) {
+				if (!uniqueChars.add(c)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,122 @@
+package com.couple.numberbaseball.engine;
+
+import com.couple.numberbaseball.model.GameSettings;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CandidateSetTests {
+
+	@Test
+	void retainMatchesBruteForceFiltering() {
+		Random random = new Random(42);
+		for (int digits = CodeSpace.MIN_DIGITS; digits <= CodeSpace.MAX_DIGITS; digits++) {
+			for (int flags = 0; flags < 4; flags++) {
+				GameSettings settings = new GameSettings(digits, (flags & 2) != 0, (flags & 1) != 0);
+				CodeSpace space = CodeSpace.of(settings);
+				// 판정 테이블 구현 두 가지 모두 확인 (행렬은 작은 색인에서만)
+				JudgeTable table = space.size() <= 5_040 ? JudgeMatrix.build(space) : space;
+				playAgainstBruteForce(space, table, settings, random);
+			}
+		}
+	}
+
+	@Test
+	void newSetHoldsWholeSpace() {
+		// 3자리 0 미포함 중복 불가 = 504개 -> 마지막 word가 일부만 채워짐
+		CodeSpace space = CodeSpace.of(3, false, false);
+		CandidateSet candidates = CandidateSet.all(space);
+
+		assertEquals(space.size(), candidates.size());
+		int[] ids = candidates.toArray();
+		for (int id = 0; id < space.size(); id++) {
+			assertEquals(id, ids[id]);
+			assertEquals(id, candidates.get(id));
+			assertTrue(candidates.contains(id));
+		}
+		assertThrows(IndexOutOfBoundsException.class, () -> candidates.get(space.size()));
+		assertThrows(IndexOutOfBoundsException.class, () -> candidates.get(-1));
+	}
+
+	@Test
+	void contradictoryResultEmptiesSet() {
+		CodeSpace space = CodeSpace.of(3, false, false);
+		CandidateSet candidates = CandidateSet.all(space);
+		int guessId = space.idOf("123");
+
+		assertEquals(1, candidates.retain(space, guessId, JudgeResult.of(3, 0)));
+		assertEquals(guessId, candidates.get(0));
+		// 정답이 123이라면 나올 수 없는 결과
+		assertEquals(0, candidates.retain(space, space.idOf("456"), JudgeResult.of(1, 0)));
+		assertEquals(0, candidates.toArray().length);
+		assertFalse(candidates.contains(guessId));
+	}
+
+	/**
+	 * 무작위 정답에 무작위 추측을 반복하면서, 매번 retain 결과를 전체 문자열 탐색 결과와 비교
+	 */
+	private static void playAgainstBruteForce(CodeSpace space, JudgeTable table, GameSettings settings,
+											  Random random) {
+		List<String> allCodes = allValidCodes(settings);
+		String answer = space.codeOf(random.nextInt(space.size()));
+		CandidateSet candidates = CandidateSet.all(space);
+		List<String> guesses = new ArrayList<>();
+		List<Integer> results = new ArrayList<>();
+
+		while (candidates.size() > 1) {
+			String guess = space.codeOf(random.nextInt(space.size()));
+			int result = BaselineRules.judge(guess, answer);
+			guesses.add(guess);
+			results.add(result);
+			int remaining = candidates.retain(table, space.idOf(guess), result);
+
+			List<String> expected = new ArrayList<>();
+			for (String code : allCodes) {
+				if (consistent(code, guesses, results)) {
+					expected.add(code);
+				}
+			}
+
+			assertEquals(expected.size(), remaining, () -> space + " after " + guesses);
+			assertEquals(expected.size(), candidates.size());
+			int[] expectedIds = expected.stream().mapToInt(space::idOf).sorted().toArray();
+			assertArrayEquals(expectedIds, candidates.toArray(), () -> space + " after " + guesses);
+			for (int n = 0; n < expectedIds.length; n += Math.max(1, expectedIds.length / 16)) {
+				assertEquals(expectedIds[n], candidates.get(n));
+			}
+			assertTrue(candidates.contains(space.idOf(answer)));
+		}
+		assertEquals(space.idOf(answer), candidates.get(0));
+	}
+
+	private static boolean consistent(String code, List<String> guesses, List<Integer> results) {
+		for (int i = 0; i < guesses.size(); i++) {
+			if (BaselineRules.judge(guesses.get(i), code) != results.get(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static List<String> allValidCodes(GameSettings settings) {
+		int digits = settings.getDigits();
+		int limit = (int) Math.pow(10, digits);
+		List<String> codes = new ArrayList<>();
+		for (int value = 0; value < limit; value++) {
+			String input = String.format("%0" + digits + "d", value);
+			if (BaselineRules.isValidInput(input, settings)) {
+				codes.add(input);
+			}
+		}
+		return codes;
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.couple.numberbaseball.engine;
+
+import com.couple.numberbaseball.model.GameSettings;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class CodeSpaceTests {
+
+	@Test
+	void containsMatchesBaselineValidation() {
+		for (int digits = CodeSpace.MIN_DIGITS; digits <= CodeSpace.MAX_DIGITS; digits++) {
+			for (int flags = 0; flags < 4; flags++) {
+				GameSettings settings = new GameSettings(digits, (flags & 2) != 0, (flags & 1) != 0);
+				CodeSpace space = CodeSpace.of(settings);
+
+				int limit = (int) Math.pow(10, digits);
+				int valid = 0;
+				for (int value = 0; value < limit; value++) {
+					String input = String.format("%0" + digits + "d", value);
+					boolean expected = BaselineRules.isValidInput(input, settings);
+					assertEquals(expected, space.contains(input), () -> input + " in " + space);
+					if (expected) {
+						int id = space.idOf(input);
+						assertEquals(input, space.codeOf(id));
+						valid++;
+					}
+				}
+				assertEquals(valid, space.size());
+			}
+		}
+	}
+
+	@Test
+	void rejectsMalformedInput() {
+		CodeSpace space = CodeSpace.of(4, true, true);
+		assertFalse(space.contains(null));
+		assertFalse(space.contains(""));
+		assertFalse(space.contains("123"));
+		assertFalse(space.contains("12345"));
+		assertFalse(space.contains("12a4"));
+		assertFalse(space.contains("12 4"));
+		assertFalse(space.contains("-123"));
+	}
+
+	/**
+	 * 중복 허용 여부에 따라 볼 계산 경로가 다르므로 12가지 설정 모두 확인 (5자리는 정답을 일정 간격으로 추림)
+	 */
+	@Test
+	void judgeMatchesBaselineJudge() {
+		for (int slot = 0; slot < CodeSpace.slotCount(); slot++) {
+			int digits = CodeSpace.MIN_DIGITS + (slot >> 2);
+			CodeSpace space = CodeSpace.of(digits, (slot & 2) != 0, (slot & 1) != 0);
+			String[] codes = new String[space.size()];
+			for (int id = 0; id < codes.length; id++) {
+				codes[id] = space.codeOf(id);
+			}
+
+			int answerStride = digits == 5 ? 307 : 1;
+			for (int answerId = 0; answerId < codes.length; answerId += answerStride) {
+				for (int guessId = 0; guessId < codes.length; guessId++) {
+					int expected = BaselineRules.judge(codes[guessId], codes[answerId]);
+					int actual = space.judge(guessId, answerId);
+					if (expected != actual) {
+						assertEquals(JudgeResult.format(expected), JudgeResult.format(actual),
+								codes[guessId] + " vs " + codes[answerId]);
+					}
+				}
+			}
+		}
+	}
+
+}
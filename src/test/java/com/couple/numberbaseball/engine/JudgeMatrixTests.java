@@ -0,0 +1,37 @@
+package com.couple.numberbaseball.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JudgeMatrixTests {
+
+	// 테스트에서 만들 행렬 크기 상한 (3자리 전체, 4자리 중복 불가 설정)
+	private static final long MAX_TEST_MATRIX_BYTES = 32L * 1024 * 1024;
+
+	@Test
+	void matrixMatchesCodeSpaceJudge() {
+		for (int slot = 0; slot < CodeSpace.slotCount(); slot++) {
+			int digits = CodeSpace.MIN_DIGITS + (slot >> 2);
+			CodeSpace space = CodeSpace.of(digits, (slot & 2) != 0, (slot & 1) != 0);
+			if (JudgeMatrix.requiredBytes(space) > MAX_TEST_MATRIX_BYTES) {
+				continue;
+			}
+
+			JudgeMatrix matrix = JudgeMatrix.build(space);
+			assertSame(space, matrix.space());
+			assertEquals(JudgeMatrix.requiredBytes(space), matrix.sizeInBytes());
+			for (int guessId = 0; guessId < space.size(); guessId++) {
+				for (int answerId = 0; answerId < space.size(); answerId++) {
+					int expected = space.judge(guessId, answerId);
+					int actual = matrix.judge(guessId, answerId);
+					if (expected != actual) {
+						assertEquals(expected, actual, space.codeOf(guessId) + " vs " + space.codeOf(answerId));
+					}
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+package com.couple.numberbaseball.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolverTests {
+
+	private final CodeSpace space = CodeSpace.of(3, false, false); // 504개
+
+	@Test
+	void openingSuggestionIsMinimaxOptimal() {
+		int[] all = IntStream.range(0, space.size()).toArray();
+		assertMinimax(all);
+	}
+
+	@Test
+	void suggestionAfterGuessesIsMinimaxOptimal() {
+		int answer = space.idOf("352");
+		int[] candidates = IntStream.range(0, space.size()).toArray();
+		for (String guess : new String[]{"123", "456"}) {
+			int guessId = space.idOf(guess);
+			int result = space.judge(guessId, answer);
+			candidates = Arrays.stream(candidates).filter(id -> space.judge(guessId, id) == result).toArray();
+
+			assertTrue(Arrays.binarySearch(candidates, answer) >= 0);
+			assertMinimax(candidates);
+		}
+	}
+
+	@Test
+	void smallCandidateSetsSuggestACandidate() {
+		assertNull(Solver.suggest(space, new int[0]));
+
+		int[] candidates = {space.idOf("123"), space.idOf("321")};
+		Solver.Suggestion suggestion = Solver.suggest(space, candidates);
+		assertEquals(candidates[0], suggestion.guessId());
+		assertEquals(1, suggestion.worstCaseRemaining());
+		assertEquals(2, suggestion.remainingCandidates());
+	}
+
+	@Test
+	void sampledPoolReportsActualWorstCase() {
+		// 9000 x 9000 판정은 작업 한도를 넘으므로 후보 일부만 추측으로 평가
+		CodeSpace large = CodeSpace.of(4, true, true);
+		int[] candidates = IntStream.range(0, large.size()).toArray();
+
+		Solver.Suggestion suggestion = Solver.suggest(large, candidates);
+		assertNotNull(suggestion);
+		assertEquals(worstCase(large, suggestion.guessId(), candidates), suggestion.worstCaseRemaining());
+		assertEquals(candidates.length, suggestion.remainingCandidates());
+	}
+
+	@Test
+	void worstCaseAbove15BitsIsNotClipped() {
+		// 5자리 9만 개 코드를 첫 자리만 보고 두 갈래로 나누는 판정 -> 어떤 추측이든 최악 후보 수가 4만 이상
+		CodeSpace large = CodeSpace.of(5, true, true);
+		JudgeTable leadingDigit = new JudgeTable() {
+			@Override
+			public int judge(int guessId, int answerId) {
+				return large.codeOf(answerId).charAt(0) < large.codeOf(guessId).charAt(0)
+						? JudgeResult.of(0, 0) : JudgeResult.of(1, 0);
+			}
+
+			@Override
+			public CodeSpace space() {
+				return large;
+			}
+		};
+		int[] candidates = IntStream.range(0, large.size()).toArray();
+
+		// 첫 자리가 5나 6일 때 4만/5만으로 가장 고르게 나뉨
+		Solver.Suggestion suggestion = Solver.suggest(leadingDigit, candidates);
+		char leading = large.codeOf(suggestion.guessId()).charAt(0);
+		assertTrue(leading == '5' || leading == '6', () -> "suggested " + large.codeOf(suggestion.guessId()));
+		assertEquals(50_000, suggestion.worstCaseRemaining());
+	}
+
+	/**
+	 * 모든 코드를 추측으로 평가하는 단순 구현과 추천 결과 비교
+	 * (최악 후보 수 -> 기대 크기 -> 후보 우선 -> 작은 id 순)
+	 */
+	private void assertMinimax(int[] candidates) {
+		int bestGuess = -1;
+		long bestWorst = Long.MAX_VALUE;
+		long bestExpected = Long.MAX_VALUE;
+		boolean bestIsCandidate = false;
+		for (int guessId = 0; guessId < space.size(); guessId++) {
+			int[] partition = partition(space, guessId, candidates);
+			long worst = Arrays.stream(partition).max().getAsInt();
+			long expected = Arrays.stream(partition).mapToLong(size -> (long) size * size).sum() / candidates.length;
+			boolean isCandidate = Arrays.binarySearch(candidates, guessId) >= 0;
+
+			boolean better = worst < bestWorst
+					|| (worst == bestWorst && expected < bestExpected)
+					|| (worst == bestWorst && expected == bestExpected && isCandidate && !bestIsCandidate);
+			if (better) {
+				bestGuess = guessId;
+				bestWorst = worst;
+				bestExpected = expected;
+				bestIsCandidate = isCandidate;
+			}
+		}
+
+		Solver.Suggestion suggestion = Solver.suggest(space, candidates);
+		assertEquals(bestGuess, suggestion.guessId(), () -> "suggested " + space.codeOf(suggestion.guessId()));
+		assertEquals(bestWorst, suggestion.worstCaseRemaining());
+		assertEquals(worstCase(space, suggestion.guessId(), candidates), suggestion.worstCaseRemaining());
+		assertEquals(candidates.length, suggestion.remainingCandidates());
+	}
+
+	private static int worstCase(CodeSpace space, int guessId, int[] candidates) {
+		return Arrays.stream(partition(space, guessId, candidates)).max().getAsInt();
+	}
+
+	private static int[] partition(CodeSpace space, int guessId, int[] candidates) {
+		int[] partition = new int[JudgeResult.of(JudgeResult.MAX_DIGITS, JudgeResult.MAX_DIGITS) + 1];
+		for (int answerId : candidates) {
+			partition[space.judge(guessId, answerId)]++;
+		}
+		return partition;
+	}
+
+}
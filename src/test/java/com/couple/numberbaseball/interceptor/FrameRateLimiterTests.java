@@ -0,0 +1,101 @@
+package com.couple.numberbaseball.interceptor;
+
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrameRateLimiterTests {
+
+	private final ManualClock clock = new ManualClock(1_000_000L);
+	private final FrameRateLimiter limiter = newLimiter(clock);
+
+	@Test
+	void sessionBurstIsSharedAcrossConnections() {
+		// 세션 한도(버스트 10)는 연결을 바꿔도 같이 적용됨
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.tryAcquire("conn-" + (i % 2), "player"));
+		}
+		assertFalse(limiter.tryAcquire("conn-2", "player"));
+		assertEquals(1, limiter.getThrottledBySessionCount());
+		assertEquals(0, limiter.getThrottledByConnectionCount());
+
+		// 다른 세션은 영향 없음
+		assertTrue(limiter.tryAcquire("conn-3", "other"));
+	}
+
+	@Test
+	void connectionBurstAppliesWithoutSession() {
+		for (int i = 0; i < 20; i++) {
+			assertTrue(limiter.tryAcquire("conn", null));
+		}
+		assertFalse(limiter.tryAcquire("conn", null));
+		assertEquals(1, limiter.getThrottledByConnectionCount());
+
+		// 연결 10/s -> 100ms 뒤 한 개 채워짐
+		clock.advance(100, TimeUnit.MILLISECONDS);
+		assertTrue(limiter.tryAcquire("conn", null));
+		assertFalse(limiter.tryAcquire("conn", null));
+	}
+
+	@Test
+	void throttledConnectionDoesNotSpendSessionToken() {
+		for (int i = 0; i < 20; i++) {
+			limiter.tryAcquire("conn", null);
+		}
+		assertFalse(limiter.tryAcquire("conn", "player"));
+
+		// 연결에서 막힌 프레임은 세션 토큰을 쓰지 않았으므로 세션 버스트가 그대로 남아 있음
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.tryAcquire("conn-" + i, "player"));
+		}
+	}
+
+	@Test
+	void idleBucketsAreEvicted() {
+		limiter.tryAcquire("conn-1", "player-1");
+		limiter.tryAcquire("conn-2", "player-2");
+		assertEquals(4, limiter.getTrackedBucketCount());
+
+		clock.advance(59, TimeUnit.SECONDS);
+		limiter.tryAcquire("conn-2", "player-2");
+		assertEquals(0, limiter.removeIdleBuckets());
+
+		// 1분 넘게 쓰지 않은 버킷만 정리
+		clock.advance(2, TimeUnit.SECONDS);
+		assertEquals(2, limiter.removeIdleBuckets());
+		assertEquals(2, limiter.getTrackedBucketCount());
+
+		// 정리된 세션은 가득 찬 새 버킷으로 다시 시작
+		for (int i = 0; i < 10; i++) {
+			assertTrue(limiter.tryAcquire("conn-1", "player-1"));
+		}
+	}
+
+	@Test
+	void disconnectDropsConnectionBucketOnly() {
+		limiter.tryAcquire("conn", "player");
+		limiter.onDisconnect("conn");
+		limiter.onDisconnect(null);
+		assertEquals(1, limiter.getTrackedBucketCount());
+	}
+
+	/**
+	 * 스프링 없이 만든 FrameRateLimiter (기본 설정값)
+	 */
+	private static FrameRateLimiter newLimiter(ManualClock clock) {
+		FrameRateLimiter limiter = new FrameRateLimiter();
+		ReflectionTestUtils.setField(limiter, "clock", clock);
+		ReflectionTestUtils.setField(limiter, "sessionRate", 5.0);
+		ReflectionTestUtils.setField(limiter, "sessionBurst", 10);
+		ReflectionTestUtils.setField(limiter, "connectionRate", 10.0);
+		ReflectionTestUtils.setField(limiter, "connectionBurst", 20);
+		return limiter;
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.couple.numberbaseball.model;
+
+import com.couple.numberbaseball.engine.CandidateView;
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeResult;
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameRoomTests {
+
+	private final GameRoom room = new GameRoom("ROOM01", "creator", new GameSettings(3, false, false),
+			new ManualClock(1_000_000L));
+
+	@Test
+	void everyStateChangePublishesNextVersion() {
+		long version = room.getVersion();
+
+		room.setSettings(new GameSettings(4, false, false));
+		assertEquals(++version, room.getVersion());
+		room.setCreatorAnswer("1234");
+		assertEquals(++version, room.getVersion());
+		room.setJoinerAnswer("5678");
+		assertEquals(++version, room.getVersion());
+		room.setBot(new BotPlayer("bot-ROOM01"));
+		assertEquals(++version, room.getVersion());
+		room.setJoinerSessionId("joiner");
+		assertEquals(++version, room.getVersion());
+		room.setStatus(GameStatus.WAITING_FOR_READY);
+		assertEquals(++version, room.getVersion());
+		room.setPlayerReady("creator", true);
+		assertEquals(++version, room.getVersion());
+	}
+
+	@Test
+	void newJoinerResetsCreatorCandidates() {
+		int all = CodeSpace.of(room.getSettings()).size();
+		room.joinRoom("joiner");
+		room.setPlayerReady("creator", true);
+		room.setPlayerReady("joiner", true);
+		room.setPlayerAnswer("creator", "123");
+		room.setPlayerAnswer("joiner", "456");
+
+		// 방장이 이전 참가자의 정답(456)을 향해 후보를 좁힘
+		room.addTurn("creator", "457", JudgeResult.of(2, 0), null);
+		assertTrue(room.getCandidates("creator").size() < all);
+
+		// 참가자가 나가고 새 참가자가 들어옴
+		room.setJoinerSessionId(null);
+		room.setStatus(GameStatus.WAITING_FOR_JOINER);
+		room.joinRoom("joiner2");
+		assertEquals(all, room.getCandidates("creator").size());
+
+		// 새 참가자가 정답을 정하기 전에 좁힌 후보도 정답을 정하면 초기화
+		room.addTurn("creator", "457", JudgeResult.of(2, 0), null);
+		room.setPlayerAnswer("joiner2", "789");
+		CandidateView candidates = room.getCandidates("creator");
+		assertEquals(all, candidates.size());
+		assertTrue(candidates.contains(candidates.space().idOf("789")));
+	}
+
+	@Test
+	void answerChangeResetsOpponentCandidates() {
+		int all = CodeSpace.of(room.getSettings()).size();
+		room.joinRoom("joiner");
+		room.setPlayerReady("creator", true);
+		room.setPlayerReady("joiner", true);
+		room.setPlayerAnswer("creator", "123");
+		room.setPlayerAnswer("joiner", "456");
+		room.addTurn("creator", "457", JudgeResult.of(2, 0), null);
+		room.addTurn("joiner", "124", JudgeResult.of(2, 0), null);
+		assertTrue(room.getCandidates("joiner").size() < all);
+
+		room.setCreatorAnswer("789");
+		assertEquals(all, room.getCandidates("joiner").size());
+
+		assertTrue(room.getCandidates("creator").size() < all);
+		room.setJoinerAnswer("789");
+		assertEquals(all, room.getCandidates("creator").size());
+	}
+
+	@Test
+	void snapshotMatchesFieldsAfterEachChange() {
+		room.joinRoom("joiner");
+		room.setPlayerReady("creator", true);
+		room.setPlayerReady("joiner", true);
+		room.setPlayerAnswer("creator", "123");
+		room.setPlayerAnswer("joiner", "456");
+		room.addTurn("creator", "456", JudgeResult.of(3, 0), null);
+
+		GameRoomSnapshot snapshot = room.getSnapshot();
+		assertEquals(room.getVersion(), snapshot.getVersion());
+		assertEquals("joiner", snapshot.getJoinerSessionId());
+		assertEquals(room.getStatus(), snapshot.getStatus());
+		assertEquals(GameStatus.FINISHED, snapshot.getStatus());
+		assertEquals(room.getCurrentTurn(), snapshot.getCurrentTurn());
+		assertEquals(1, snapshot.getTurnCount());
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.couple.numberbaseball.model;
+
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeResult;
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TurnLogTests {
+
+	private static final long START_MILLIS = 1_700_000_000_000L;
+
+	private final ManualClock clock = new ManualClock(START_MILLIS);
+	private final TurnLog log = new TurnLog(clock);
+
+	@Test
+	void roundTripsEveryField() {
+		// 5자리 0 포함 중복 허용: 가장 큰 코드 id(89999)까지 20비트 안에 들어가는지 확인
+		CodeSpace space = CodeSpace.of(5, true, true);
+		String lastCode = space.codeOf(space.size() - 1);
+		assertNull(log.last());
+
+		log.append(space, "alice", "10000", JudgeResult.of(0, 0));
+		clock.advance(1_500, TimeUnit.MILLISECONDS);
+		log.append(space, "bob", lastCode, JudgeResult.of(2, 3));
+		clock.advance(2, TimeUnit.HOURS);
+		log.append(space, "alice", "12345", JudgeResult.of(5, 0));
+
+		List<GameTurn> turns = log.view();
+		assertEquals(3, turns.size());
+		assertTurn(turns.get(0), 1, "alice", "10000", "OUT", 0, 0, false, START_MILLIS);
+		assertTurn(turns.get(1), 2, "bob", lastCode, "2S 3B", 2, 3, false, START_MILLIS + 1_500);
+		assertTurn(turns.get(2), 3, "alice", "12345", "5S", 5, 0, true,
+				START_MILLIS + 1_500 + TimeUnit.HOURS.toMillis(2));
+		assertTurn(log.last(), 3, "alice", "12345", "5S", 5, 0, true,
+				START_MILLIS + 1_500 + TimeUnit.HOURS.toMillis(2));
+	}
+
+	@Test
+	void guesserTableKeepsDepartedPlayers() {
+		CodeSpace space = CodeSpace.of(3, false, false);
+		for (int i = 0; i < 20; i++) {
+			log.append(space, "player-" + (i % 5), "123", JudgeResult.of(0, 1));
+		}
+
+		List<GameTurn> turns = log.view();
+		for (int i = 0; i < 20; i++) {
+			assertEquals("player-" + (i % 5), turns.get(i).getGuesserSessionId());
+		}
+	}
+
+	@Test
+	void millisDeltaSaturates() {
+		CodeSpace space = CodeSpace.of(3, false, false);
+		long maxDelta = (1L << 28) - 1; // 약 74시간
+		clock.advance(maxDelta + 1_000, TimeUnit.MILLISECONDS);
+		log.append(space, "alice", "123", JudgeResult.of(1, 0));
+
+		assertEquals(toLocalDateTime(START_MILLIS + maxDelta), log.last().getTimestamp());
+	}
+
+	@Test
+	void rejectsUnrecordableTurns() {
+		CodeSpace space = CodeSpace.of(3, false, false);
+		assertThrows(IllegalArgumentException.class, () -> log.append(space, "alice", "012", 0));
+		assertThrows(IllegalArgumentException.class, () -> log.append(space, "alice", "123", -1));
+		assertThrows(IllegalArgumentException.class, () -> log.append(space, "alice", "123", 1 << 8));
+		assertEquals(0, log.size());
+	}
+
+	@Test
+	void viewIsSnapshotAcrossGrowth() {
+		CodeSpace space = CodeSpace.of(4, false, false);
+		log.append(space, "alice", "1234", JudgeResult.of(1, 1));
+		List<GameTurn> early = log.view();
+
+		// 초기 배열(8칸)을 여러 번 넘겨 키움
+		for (int i = 1; i < 100; i++) {
+			log.append(space, i % 2 == 0 ? "alice" : "bob", space.codeOf(i), JudgeResult.of(i % 4, 0));
+		}
+
+		assertEquals(1, early.size());
+		assertEquals("1234", early.get(0).getGuess());
+		assertThrows(IndexOutOfBoundsException.class, () -> early.get(1));
+
+		List<GameTurn> all = log.view();
+		assertEquals(100, all.size());
+		for (int i = 1; i < 100; i++) {
+			GameTurn turn = all.get(i);
+			assertEquals(i + 1, turn.getTurnNumber());
+			assertEquals(space.codeOf(i), turn.getGuess());
+			assertEquals(i % 4, turn.getStrikes());
+		}
+	}
+
+	@Test
+	void concurrentReaderSeesConsistentPrefix() throws InterruptedException {
+		CodeSpace space = CodeSpace.of(4, true, true);
+		int turns = 20_000;
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+
+		Thread reader = new Thread(() -> {
+			try {
+				while (!done.get()) {
+					List<GameTurn> view = log.view();
+					int n = view.size();
+					if (n > 0) {
+						// 보이는 마지막 턴까지 모두 기록된 값이어야 함
+						GameTurn turn = view.get(n - 1);
+						assertEquals(n, turn.getTurnNumber());
+						assertEquals(space.codeOf((n - 1) % space.size()), turn.getGuess());
+						assertEquals("p" + ((n - 1) % 2), turn.getGuesserSessionId());
+					}
+				}
+			} catch (Throwable t) {
+				failure.set(t);
+			}
+		});
+		reader.start();
+
+		for (int i = 0; i < turns; i++) {
+			log.append(space, "p" + (i % 2), space.codeOf(i % space.size()), JudgeResult.of(0, i % 5));
+		}
+		done.set(true);
+		reader.join();
+
+		assertNull(failure.get());
+		assertEquals(turns, log.view().size());
+	}
+
+	private static void assertTurn(GameTurn turn, int number, String guesser, String guess, String result,
+								   int strikes, int balls, boolean win, long millis) {
+		assertEquals(number, turn.getTurnNumber());
+		assertEquals(guesser, turn.getGuesserSessionId());
+		assertEquals(guess, turn.getGuess());
+		assertEquals(result, turn.getResult());
+		assertEquals(strikes, turn.getStrikes());
+		assertEquals(balls, turn.getBalls());
+		assertEquals(win, turn.isWin());
+		assertEquals(toLocalDateTime(millis), turn.getTimestamp());
+	}
+
+	private static LocalDateTime toLocalDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+
+}
@@ -0,0 +1,224 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.controller.GameController;
+import com.couple.numberbaseball.dto.CreateRoomRequestDto;
+import com.couple.numberbaseball.dto.JoinRoomRequestDto;
+import com.couple.numberbaseball.model.GameRoom;
+import com.couple.numberbaseball.model.GameSettings;
+import com.couple.numberbaseball.util.ManualClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControlServiceTests {
+
+	private final ManualClock clock = new ManualClock(1_000_000L);
+	private final RoomExecutor roomExecutor = new RoomExecutor(1);
+	private final AdmissionControlService admission = newAdmission(2, 2);
+
+	@AfterEach
+	void shutdown() {
+		roomExecutor.shutdown();
+	}
+
+	@Test
+	void roomLimitHoldsAtBoundary() {
+		assertTrue(admission.tryAcquireRoom("10.0.0.1"));
+		assertTrue(admission.tryAcquireRoom("10.0.0.2"));
+		assertFalse(admission.tryAcquireRoom("10.0.0.3"));
+		assertEquals(2, admission.getStats().getActiveRooms());
+		assertEquals(1, admission.getStats().getRejectedByRoomLimit());
+
+		// 한 개 반납하면 정확히 한 개만 다시 허가
+		admission.releaseRoom();
+		assertTrue(admission.tryAcquireRoom("10.0.0.3"));
+		assertFalse(admission.tryAcquireRoom("10.0.0.4"));
+
+		// 방 한도로 거절된 IP는 자리를 차지하지 않음
+		assertEquals(3, admission.getStats().getTrackedIps());
+	}
+
+	@Test
+	void seatLimitIsPerIp() {
+		assertTrue(admission.tryAcquireSeat("10.0.0.1"));
+		assertTrue(admission.tryAcquireSeat("10.0.0.1"));
+		assertFalse(admission.tryAcquireSeat("10.0.0.1"));
+		assertTrue(admission.tryAcquireSeat("10.0.0.2"));
+
+		AdmissionControlService.Stats stats = admission.getStats();
+		assertEquals(3, stats.getAdmitted());
+		assertEquals(1, stats.getRejectedByIpLimit());
+		assertEquals(2, stats.getTrackedIps());
+	}
+
+	@Test
+	void roomRejectedBySeatLimitGivesBackRoom() {
+		assertTrue(admission.tryAcquireSeat("10.0.0.1"));
+		assertTrue(admission.tryAcquireSeat("10.0.0.1"));
+
+		assertFalse(admission.tryAcquireRoom("10.0.0.1"));
+		assertEquals(0, admission.getStats().getActiveRooms());
+		assertEquals(0, admission.getStats().getRejectedByRoomLimit());
+		assertEquals(1, admission.getStats().getRejectedByIpLimit());
+	}
+
+	@Test
+	void roomRemovalReleasesRoomAndSeats() {
+		GameRoomService gameRoomService = newGameRoomService();
+		String creator = acquireRoom("creator", "10.0.0.1");
+		GameRoom room = gameRoomService.createRoom(creator, new GameSettings(3, false, false));
+		String joiner = acquireSeat("joiner", "10.0.0.1");
+		assertNotNull(gameRoomService.joinRoom(room.getRoomId(), joiner));
+		assertEquals(2, admission.getStats().getOccupiedSeats());
+
+		// 방장이 나가면 방이 삭제되면서 두 자리와 방 한 개를 모두 반납
+		leave(gameRoomService, creator, room.getRoomId());
+		assertNull(gameRoomService.findRoomByCode(room.getRoomId()));
+		AdmissionControlService.Stats stats = admission.getStats();
+		assertEquals(0, stats.getActiveRooms());
+		assertEquals(0, stats.getOccupiedSeats());
+		assertEquals(0, stats.getTrackedIps());
+	}
+
+	@Test
+	void joinerLeaveReleasesOnlyItsSeat() {
+		GameRoomService gameRoomService = newGameRoomService();
+		String creator = acquireRoom("creator", "10.0.0.1");
+		GameRoom room = gameRoomService.createRoom(creator, new GameSettings(3, false, false));
+		String joiner = acquireSeat("joiner", "10.0.0.2");
+		assertNotNull(gameRoomService.joinRoom(room.getRoomId(), joiner));
+
+		leave(gameRoomService, joiner, room.getRoomId());
+		AdmissionControlService.Stats stats = admission.getStats();
+		assertEquals(1, stats.getActiveRooms());
+		assertEquals(1, stats.getOccupiedSeats());
+		assertEquals(1, stats.getTrackedIps());
+
+		// 이미 반납한 자리는 다시 반납해도 무시
+		admission.releaseSeat(joiner);
+		assertEquals(1, admission.getStats().getOccupiedSeats());
+	}
+
+	@Test
+	void failedCreateDoesNotLeakSlots() {
+		GameRoomService failing = new GameRoomService(new RoomRegistry(4), clock, 1_000, 10) {
+			@Override
+			public GameRoom createRoom(String creatorSessionId, GameSettings settings, boolean vsBot) {
+				throw new IllegalStateException("boom");
+			}
+		};
+		GameController controller = newController(failing);
+		CreateRoomRequestDto request = new CreateRoomRequestDto();
+		request.setDigits(3);
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(HttpStatus.INTERNAL_SERVER_ERROR,
+					controller.createRoom(request, requestFrom("10.0.0.1")).getStatusCode());
+		}
+
+		// 한도(방 2개, IP당 2자리)보다 많이 실패해도 남는 것이 없어야 함
+		AdmissionControlService.Stats stats = admission.getStats();
+		assertEquals(0, stats.getActiveRooms());
+		assertEquals(0, stats.getOccupiedSeats());
+		assertEquals(0, stats.getTrackedIps());
+		assertEquals(0, stats.getRejectedByRoomLimit() + stats.getRejectedByIpLimit());
+	}
+
+	@Test
+	void failedJoinDoesNotLeakSeat() {
+		GameRoom waiting = new GameRoom("ROOM01", "creator", new GameSettings(3, false, false), clock);
+		GameRoomService refusing = new GameRoomService(new RoomRegistry(4), clock, 1_000, 10) {
+			@Override
+			public GameRoom findRoomByCode(String roomCode) {
+				return waiting;
+			}
+
+			@Override
+			public GameRoom joinRoom(String roomCode, String joinerSessionId) {
+				return null; // 확인 이후 다른 참가자가 먼저 들어온 경우
+			}
+		};
+		GameController controller = newController(refusing);
+		JoinRoomRequestDto request = new JoinRoomRequestDto();
+		request.setRoomCode("ROOM01");
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(HttpStatus.CONFLICT, controller.joinRoom(request, requestFrom("10.0.0.1")).getStatusCode());
+		}
+
+		AdmissionControlService.Stats stats = admission.getStats();
+		assertEquals(0, stats.getOccupiedSeats());
+		assertEquals(0, stats.getTrackedIps());
+		assertEquals(0, stats.getRejectedByIpLimit());
+	}
+
+	private String acquireRoom(String sessionId, String clientIp) {
+		assertTrue(admission.tryAcquireRoom(clientIp));
+		admission.assignSeat(sessionId, clientIp);
+		return sessionId;
+	}
+
+	private String acquireSeat(String sessionId, String clientIp) {
+		assertTrue(admission.tryAcquireSeat(clientIp));
+		admission.assignSeat(sessionId, clientIp);
+		return sessionId;
+	}
+
+	/**
+	 * 방 떠나기는 방 레인에 들어가므로 같은 레인에 빈 작업을 넣어 끝날 때까지 기다림
+	 */
+	private void leave(GameRoomService gameRoomService, String sessionId, String roomCode) {
+		gameRoomService.leaveRoom(sessionId);
+		roomExecutor.call(roomCode, () -> null);
+	}
+
+	private GameRoomService newGameRoomService() {
+		GameRoomService service = GameRoomServiceTests.newService(clock, roomExecutor);
+		ReflectionTestUtils.setField(service, "admissionControlService", admission);
+		ReflectionTestUtils.setField(service, "roomBroadcaster", newBroadcaster());
+		return service;
+	}
+
+	private GameController newController(GameRoomService gameRoomService) {
+		GameController controller = new GameController();
+		ReflectionTestUtils.setField(controller, "gameRoomService", gameRoomService);
+		ReflectionTestUtils.setField(controller, "sessionService", new SessionService(clock, 30));
+		ReflectionTestUtils.setField(controller, "admissionControlService", admission);
+		return controller;
+	}
+
+	/**
+	 * 보낸 메시지를 버리는 브로드캐스터
+	 */
+	private static RoomBroadcaster newBroadcaster() {
+		RoomBroadcaster broadcaster = new RoomBroadcaster();
+		ReflectionTestUtils.setField(broadcaster, "messagingTemplate",
+				new SimpMessagingTemplate((message, timeout) -> true));
+		ReflectionTestUtils.setField(broadcaster, "objectMapper", new ObjectMapper().findAndRegisterModules());
+		return broadcaster;
+	}
+
+	private static MockHttpServletRequest requestFrom(String clientIp) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(clientIp);
+		return request;
+	}
+
+	private static AdmissionControlService newAdmission(int maxConcurrentRooms, int maxSeatsPerIp) {
+		AdmissionControlService service = new AdmissionControlService();
+		ReflectionTestUtils.setField(service, "maxConcurrentRooms", maxConcurrentRooms);
+		ReflectionTestUtils.setField(service, "maxSeatsPerIp", maxSeatsPerIp);
+		return service;
+	}
+
+}
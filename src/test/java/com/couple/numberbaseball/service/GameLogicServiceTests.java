@@ -0,0 +1,111 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.engine.BaselineRules;
+import com.couple.numberbaseball.engine.CodeSpace;
+import com.couple.numberbaseball.engine.JudgeMatrix;
+import com.couple.numberbaseball.engine.JudgeResult;
+import com.couple.numberbaseball.engine.JudgeTable;
+import com.couple.numberbaseball.model.GameSettings;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameLogicServiceTests {
+
+	private final GameLogicService gameLogicService = new GameLogicService();
+
+	@Test
+	void generatedAnswersAreValidForEverySetting() {
+		for (GameSettings settings : allSettings()) {
+			for (int i = 0; i < 2_000; i++) {
+				String answer = gameLogicService.generateAnswer(settings);
+				assertTrue(gameLogicService.isValidAnswer(answer, settings),
+						() -> "invalid answer " + answer + " for " + describe(settings));
+			}
+		}
+	}
+
+	/**
+	 * 0 포함 + 중복 허용 코드 색인은 같은 자릿수의 다른 설정을 모두 포함하므로, 그 위의 모든 쌍을 확인하면 모든 설정을 확인한 것
+	 * 5자리(90000^2 쌍)는 추측 전체 x 일정 간격으로 고른 정답
+	 */
+	@Test
+	void judgeCodeMatchesBaselineJudge() {
+		for (int digits = 3; digits <= 5; digits++) {
+			CodeSpace space = CodeSpace.of(digits, true, true);
+			String[] codes = new String[space.size()];
+			for (int id = 0; id < codes.length; id++) {
+				codes[id] = space.codeOf(id);
+			}
+
+			int answerStride = digits == 5 ? 307 : 1;
+			for (int answerId = 0; answerId < codes.length; answerId += answerStride) {
+				String answer = codes[answerId];
+				for (String guess : codes) {
+					int expected = BaselineRules.judge(guess, answer);
+					int actual = gameLogicService.judgeCode(guess, answer);
+					if (expected != actual) {
+						assertEquals(JudgeResult.format(expected), JudgeResult.format(actual), guess + " vs " + answer);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * 첫 조회는 기다리지 않고 코드 색인을 돌려주고, 행렬이 준비된 뒤의 조회부터 행렬을 돌려줌
+	 */
+	@Test
+	void judgeTableIsBuiltInBackground() throws InterruptedException {
+		GameLogicService service = new GameLogicService();
+		ReflectionTestUtils.setField(service, "matrixBudgetBytes", 16L << 20);
+		GameSettings settings = new GameSettings(3, false, false);
+		CodeSpace space = CodeSpace.of(settings);
+		try {
+			assertSame(space, service.judgeTable(settings));
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+			while (!(service.judgeTable(settings) instanceof JudgeMatrix) && System.nanoTime() < deadline) {
+				Thread.sleep(5);
+			}
+			JudgeTable table = service.judgeTable(settings);
+			assertInstanceOf(JudgeMatrix.class, table);
+			assertSame(space, table.space());
+			assertEquals(JudgeMatrix.requiredBytes(space), service.getMatrixBytesInUse());
+		} finally {
+			service.shutdown();
+		}
+	}
+
+	@Test
+	void judgeFormatsLikeBaseline() {
+		assertEquals("OUT", gameLogicService.judge("123", "456"));
+		assertEquals("3S", gameLogicService.judge("123", "123"));
+		assertEquals("1S 2B", gameLogicService.judge("123", "132"));
+		assertEquals("1S 2B", gameLogicService.judge("1122", "1213"));
+	}
+
+	static List<GameSettings> allSettings() {
+		List<GameSettings> settings = new ArrayList<>();
+		for (int digits = 3; digits <= 5; digits++) {
+			for (int flags = 0; flags < 4; flags++) {
+				settings.add(new GameSettings(digits, (flags & 2) != 0, (flags & 1) != 0));
+			}
+		}
+		return settings;
+	}
+
+	static String describe(GameSettings settings) {
+		return settings.getDigits() + " digits, allowZero=" + settings.isAllowZero()
+				+ ", allowDuplicate=" + settings.isAllowDuplicate();
+	}
+
+}
@@ -0,0 +1,87 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.model.GameRoom;
+import com.couple.numberbaseball.model.GameSettings;
+import com.couple.numberbaseball.util.GameClock;
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GameRoomServiceTests {
+
+	private final ManualClock clock = new ManualClock(1_000_000L);
+	private final RoomExecutor roomExecutor = new RoomExecutor(1);
+	private final GameRoomService service = newService(clock, roomExecutor);
+
+	@Test
+	void inactiveRoomIsRemovedAfterTimeout() {
+		String roomCode = service.createRoom("creator", new GameSettings(3, false, false)).getRoomId();
+
+		clock.advance(TimeUnit.MINUTES.toSeconds(5) - 1, TimeUnit.SECONDS);
+		cleanup(roomCode);
+		assertNotNull(service.findRoomByCode(roomCode));
+
+		clock.advance(2, TimeUnit.SECONDS);
+		cleanup(roomCode);
+		assertNull(service.findRoomByCode(roomCode));
+		assertNull(service.findRoomBySessionId("creator"));
+		assertEquals(0, service.getPendingExpiryCount());
+	}
+
+	@Test
+	void activityPostponesExpiry() {
+		GameRoom room = service.createRoom("creator", new GameSettings(3, false, false));
+		String roomCode = room.getRoomId();
+
+		clock.advance(3, TimeUnit.MINUTES);
+		roomExecutor.run(roomCode, () -> room.setPlayerReady("creator", true));
+
+		// 처음 만료 시각에 마지막 활동 시간을 보고 다시 등록
+		clock.advance(2, TimeUnit.MINUTES);
+		clock.advance(1, TimeUnit.SECONDS);
+		cleanup(roomCode);
+		assertNotNull(service.findRoomByCode(roomCode));
+		assertEquals(1, service.getPendingExpiryCount());
+
+		clock.advance(3, TimeUnit.MINUTES);
+		cleanup(roomCode);
+		assertNull(service.findRoomByCode(roomCode));
+		assertEquals(0, service.getActiveRoomCount());
+	}
+
+	@Test
+	void updateRoomOutsideLaneIsRejected() {
+		GameRoom room = service.createRoom("creator", new GameSettings(3, false, false));
+
+		assertThrows(IllegalStateException.class, () -> service.updateRoom(room));
+		roomExecutor.run(room.getRoomId(), () -> service.updateRoom(room));
+	}
+
+	/**
+	 * 만료 확인은 방 레인에 비동기로 들어가므로, 같은 레인에 빈 작업을 넣어 끝날 때까지 기다림
+	 */
+	private void cleanup(String roomCode) {
+		service.cleanupInactiveRooms();
+		roomExecutor.call(roomCode, () -> null);
+	}
+
+	/**
+	 * 스프링 없이 만든 GameRoomService (방 제한 시간 5분, 정리 주기 1초)
+	 */
+	static GameRoomService newService(GameClock clock, RoomExecutor roomExecutor) {
+		GameRoomService service = new GameRoomService(new RoomRegistry(4), clock, 1_000, 10);
+		ReflectionTestUtils.setField(service, "gameLogicService", new GameLogicService());
+		ReflectionTestUtils.setField(service, "roomExecutor", roomExecutor);
+		ReflectionTestUtils.setField(service, "admissionControlService", new AdmissionControlService());
+		ReflectionTestUtils.setField(service, "roomTimeoutMinutes", 5L);
+		return service;
+	}
+
+}
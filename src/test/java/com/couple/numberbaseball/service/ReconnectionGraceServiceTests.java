@@ -0,0 +1,38 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReconnectionGraceServiceTests {
+
+	@Test
+	void expiresOnlyAfterGracePeriod() {
+		ManualClock clock = new ManualClock(1_000_000L);
+		ReconnectionGraceService service = new ReconnectionGraceService(clock, 300);
+		List<String> expired = new ArrayList<>();
+		service.setExpiryHandler(gracePeriod -> expired.add(gracePeriod.getPlayerSessionId()));
+
+		service.startGrace("player-1", "ROOM01");
+		service.startGrace("player-2", "ROOM01");
+
+		clock.advance(299, TimeUnit.SECONDS);
+		service.expireDue();
+		assertTrue(expired.isEmpty());
+
+		assertNotNull(service.cancel("player-2"));
+
+		clock.advance(2, TimeUnit.SECONDS);
+		service.expireDue();
+		assertEquals(List.of("player-1"), expired);
+		assertEquals(0, service.getPendingCount());
+	}
+
+}
@@ -0,0 +1,139 @@
+package com.couple.numberbaseball.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomExecutorTests {
+
+	private final RoomExecutor executor = new RoomExecutor(4);
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void tasksInOneLaneRunInSubmissionOrder() {
+		List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		int tasks = 1_000; // 배치 크기(32)를 여러 번 넘김
+		for (int i = 0; i < tasks; i++) {
+			int n = i;
+			executor.execute("ROOM01", () -> order.add(n));
+		}
+		executor.call("ROOM01", () -> null);
+
+		assertEquals(tasks, order.size());
+		for (int i = 0; i < tasks; i++) {
+			assertEquals(i, order.get(i));
+		}
+	}
+
+	@Test
+	void tasksInOneLaneNeverOverlap() throws InterruptedException {
+		int[] counter = new int[1]; // 레인 안에서만 접근하므로 동기화 없이도 정확해야 함
+		int threads = 4;
+		int perThread = 5_000;
+		CountDownLatch done = new CountDownLatch(threads);
+		for (int t = 0; t < threads; t++) {
+			new Thread(() -> {
+				for (int i = 0; i < perThread; i++) {
+					executor.execute("ROOM01", () -> counter[0]++);
+				}
+				done.countDown();
+			}).start();
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+
+		assertEquals(threads * perThread, executor.call("ROOM01", () -> counter[0]));
+	}
+
+	@Test
+	void callInsideSameLaneRunsInline() {
+		String result = executor.call("ROOM01", () -> {
+			assertTrue(executor.isInLane("ROOM01"));
+			// 같은 레인에서 기다리면 교착이 되므로 바로 실행되어야 함
+			return executor.call("ROOM01", () -> "inline");
+		});
+		assertEquals("inline", result);
+
+		List<String> order = new ArrayList<>();
+		executor.run("ROOM01", () -> {
+			executor.run("ROOM01", () -> order.add("inner"));
+			order.add("outer");
+		});
+		assertEquals(List.of("inner", "outer"), order);
+	}
+
+	@Test
+	void callFromAnotherThreadWaitsForResult() throws Exception {
+		assertFalse(executor.isInLane("ROOM01"));
+		CompletableFuture<Integer> result = CompletableFuture.supplyAsync(
+				() -> executor.call("ROOM01", () -> executor.isInLane("ROOM01") ? 42 : -1));
+		assertEquals(42, result.get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void callFromAnotherLaneIsRejected() throws InterruptedException {
+		CompletionException error = assertThrows(CompletionException.class,
+				() -> executor.call("ROOM01", () -> executor.call("ROOM02", () -> "blocked")));
+		assertInstanceOf(IllegalStateException.class, error.getCause());
+
+		// 다른 레인으로의 run은 기다리지 않고 넘김
+		CountDownLatch ran = new CountDownLatch(1);
+		executor.run("ROOM01", () -> executor.run("ROOM02", ran::countDown));
+		assertTrue(ran.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void exceptionsPropagateToCallerAndLaneKeepsRunning() {
+		IllegalArgumentException thrown = new IllegalArgumentException("boom");
+		CompletionException error = assertThrows(CompletionException.class,
+				() -> executor.call("ROOM01", () -> {
+					throw thrown;
+				}));
+		assertEquals(thrown, error.getCause());
+
+		// execute의 예외는 기록만 하고 다음 작업은 계속 실행
+		executor.execute("ROOM01", () -> {
+			throw new IllegalStateException("ignored");
+		});
+		assertEquals("next", executor.call("ROOM01", () -> "next"));
+	}
+
+	@Test
+	void idleLanesAreRemoved() throws InterruptedException {
+		for (int room = 0; room < 100; room++) {
+			String roomCode = "ROOM" + room;
+			for (int i = 0; i < 10; i++) {
+				executor.execute(roomCode, () -> {});
+			}
+		}
+		for (int room = 0; room < 100; room++) {
+			executor.call("ROOM" + room, () -> null);
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (executor.getActiveLaneCount() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+		assertEquals(0, executor.getActiveLaneCount());
+
+		// 제거된 레인의 방 코드로 다시 제출해도 실행됨
+		assertEquals("again", executor.call("ROOM0", () -> "again"));
+	}
+
+}
@@ -0,0 +1,159 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.model.GameRoom;
+import com.couple.numberbaseball.model.GameSettings;
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomRegistryTests {
+
+	private final ManualClock clock = new ManualClock(1_000_000L);
+	private final RoomRegistry registry = new RoomRegistry(4);
+
+	@Test
+	void registerBindsCreatorAcrossShards() {
+		String roomCode = "ROOM01";
+		String creator = keyInOtherShard("creator", roomCode);
+		GameRoom room = newRoom(roomCode, creator);
+
+		assertTrue(registry.register(room));
+		assertFalse(registry.register(newRoom(roomCode, "other")));
+		assertSame(room, registry.find(roomCode));
+		assertSame(room, registry.findBySession(creator));
+		assertNull(registry.roomCodeOf("other"));
+	}
+
+	@Test
+	void bindAndUnbindRequireMatchingRoom() {
+		GameRoom room = newRoom("ROOM01", "creator");
+		registry.register(room);
+
+		assertFalse(registry.bindSession("joiner", "NOROOM"));
+		assertNull(registry.roomCodeOf("joiner"));
+
+		assertTrue(registry.bindSession("joiner", "ROOM01"));
+		assertFalse(registry.unbindSession("joiner", "ROOM02"));
+		assertEquals("ROOM01", registry.roomCodeOf("joiner"));
+		assertTrue(registry.unbindSession("joiner", "ROOM01"));
+		assertNull(registry.roomCodeOf("joiner"));
+	}
+
+	@Test
+	void removeClearsBothPlayersInOtherShards() {
+		String roomCode = "ROOM01";
+		String creator = keyInOtherShard("creator", roomCode);
+		String joiner = keyInOtherShard("joiner", roomCode);
+		GameRoom room = newRoom(roomCode, creator);
+		registry.register(room);
+		room.joinRoom(joiner);
+		registry.bindSession(joiner, roomCode);
+
+		assertSame(room, registry.remove(roomCode));
+		assertNull(registry.find(roomCode));
+		assertNull(registry.roomCodeOf(creator));
+		assertNull(registry.roomCodeOf(joiner));
+		assertNull(registry.remove(roomCode));
+		assertEquals(0, registry.size());
+	}
+
+	@Test
+	void removeOnlySucceedsForRegisteredInstance() {
+		GameRoom stale = newRoom("ROOM01", "old-creator");
+		registry.register(stale);
+		assertSame(stale, registry.remove("ROOM01"));
+
+		// 반납된 코드로 새 방이 등록된 뒤 이전 방 인스턴스로 삭제 시도
+		GameRoom current = newRoom("ROOM01", "new-creator");
+		registry.register(current);
+		assertFalse(registry.remove(stale));
+		assertSame(current, registry.find("ROOM01"));
+		assertEquals("ROOM01", registry.roomCodeOf("new-creator"));
+
+		// replace는 등록된 방만 교체 (삭제된 방을 되살리지 않음)
+		assertTrue(registry.replace(current));
+		assertTrue(registry.remove(current));
+		assertFalse(registry.replace(current));
+		assertNull(registry.find("ROOM01"));
+	}
+
+	@Test
+	void concurrentChangesKeepIndexesConsistent() throws Exception {
+		int threads = 4;
+		int operations = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					ThreadLocalRandom random = ThreadLocalRandom.current();
+					for (int i = 0; i < operations; i++) {
+						// 적은 수의 코드와 세션을 여러 스레드가 함께 사용해 충돌을 유도
+						String roomCode = "R" + random.nextInt(64);
+						String sessionId = "S" + random.nextInt(256);
+						switch (random.nextInt(3)) {
+							case 0 -> registry.register(newRoom(roomCode, sessionId));
+							case 1 -> registry.unbindSession(sessionId, roomCode);
+							default -> registry.remove(roomCode);
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// 세션 매핑은 항상 존재하는 방을 가리켜야 함
+		Map<String, GameRoom> rooms = registry.snapshot();
+		int mappedSessions = 0;
+		for (int s = 0; s < 256; s++) {
+			String roomCode = registry.roomCodeOf("S" + s);
+			if (roomCode != null) {
+				mappedSessions++;
+				assertNotNull(rooms.get(roomCode), () -> "dangling session mapping to " + roomCode);
+			}
+		}
+
+		List<RoomRegistry.ShardStats> stats = registry.getShardStats();
+		assertEquals(rooms.size(), stats.stream().mapToInt(RoomRegistry.ShardStats::getRooms).sum());
+		assertEquals(mappedSessions, stats.stream().mapToInt(RoomRegistry.ShardStats::getSessions).sum());
+		for (RoomRegistry.ShardStats shard : stats) {
+			assertEquals(shard.getRooms(), shard.getRoomsCreated() - shard.getRoomsRemoved());
+		}
+	}
+
+	private GameRoom newRoom(String roomCode, String creator) {
+		return new GameRoom(roomCode, creator, new GameSettings(3, false, false), clock);
+	}
+
+	/**
+	 * 방 코드와 다른 샤드에 들어가는 키 (샤드 락을 여러 개 잡는 경로를 타도록)
+	 */
+	private String keyInOtherShard(String prefix, String roomCode) {
+		for (int i = 0; ; i++) {
+			String key = prefix + i;
+			if (registry.shardOf(key) != registry.shardOf(roomCode)) {
+				return key;
+			}
+		}
+	}
+
+}
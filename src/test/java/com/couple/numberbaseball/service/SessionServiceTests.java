@@ -0,0 +1,72 @@
+package com.couple.numberbaseball.service;
+
+import com.couple.numberbaseball.model.GameSettings;
+import com.couple.numberbaseball.util.ManualClock;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionServiceTests {
+
+	private final ManualClock clock = new ManualClock(1_000_000L);
+	private final GameRoomService gameRoomService = GameRoomServiceTests.newService(clock, new RoomExecutor(1));
+	private final SessionService service = new SessionService(clock, 30);
+
+	SessionServiceTests() {
+		ReflectionTestUtils.setField(service, "gameRoomService", gameRoomService);
+	}
+
+	@Test
+	void idleSessionIsEvictedAfterTimeout() {
+		String sessionId = service.createSession("idle");
+
+		clock.advance(29, TimeUnit.MINUTES);
+		assertEquals(0, service.cleanupSessions());
+		assertNotNull(service.getSession(sessionId));
+
+		clock.advance(2, TimeUnit.MINUTES);
+		assertEquals(1, service.cleanupSessions());
+		assertNull(service.getSession(sessionId));
+		assertEquals(1, service.getEvictedCount());
+		assertEquals(1, service.getCreatedCount());
+	}
+
+	@Test
+	void accessedSessionIsRescheduled() {
+		String sessionId = service.createSession("active");
+
+		clock.advance(20, TimeUnit.MINUTES);
+		assertTrue(service.isValidSession(sessionId));
+
+		clock.advance(11, TimeUnit.MINUTES);
+		assertEquals(0, service.cleanupSessions());
+		assertNotNull(service.getSession(sessionId));
+
+		clock.advance(20, TimeUnit.MINUTES);
+		assertEquals(1, service.cleanupSessions());
+		assertNull(service.getSession(sessionId));
+	}
+
+	@Test
+	void sessionInRoomIsRescheduled() {
+		String sessionId = service.createSession("player");
+		gameRoomService.createRoom(sessionId, new GameSettings(3, false, false));
+
+		// 방에 참여 중이면 접근이 없어도 다음 만료 시각으로 다시 등록
+		clock.advance(31, TimeUnit.MINUTES);
+		assertEquals(0, service.cleanupSessions());
+		assertNotNull(service.getSession(sessionId));
+
+		gameRoomService.leaveRoom(sessionId);
+		clock.advance(31, TimeUnit.MINUTES);
+		assertEquals(1, service.cleanupSessions());
+		assertNull(service.getSession(sessionId));
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.couple.numberbaseball.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConcurrentLongMapTests {
+
+	// 세그먼트 하나의 초기 칸 수 (ConcurrentLongMap.INITIAL_SEGMENT_CAPACITY)
+	private static final int CAPACITY = 16;
+
+	@Test
+	void backwardShiftDeleteAcrossWrappedProbeChain() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>(1);
+
+		// 마지막 칸에서 시작해 배열 앞쪽으로 넘어가는 탐사 사슬: [15]=a, [0]=b, [1]=c
+		long a = keyWithHome(CAPACITY - 1, 1);
+		long b = keyWithHome(CAPACITY - 1, a + 1);
+		long c = keyWithHome(0, 1);
+		long d = keyWithHome(1, c + 1); // c에 밀려 [2]
+		map.putIfAbsent(a, "a");
+		map.putIfAbsent(b, "b");
+		map.putIfAbsent(c, "c");
+		map.putIfAbsent(d, "d");
+
+		assertEquals("a", map.remove(a));
+		assertNull(map.get(a));
+		assertEquals("b", map.get(b));
+		assertEquals("c", map.get(c));
+		assertEquals("d", map.get(d));
+
+		assertEquals("c", map.remove(c));
+		assertEquals("b", map.get(b));
+		assertEquals("d", map.get(d));
+		assertEquals(2, map.size());
+
+		// 삭제 후 빈 칸이 남지 않았는지 다시 넣어 확인
+		assertNull(map.putIfAbsent(a, "a2"));
+		assertEquals("a2", map.get(a));
+		assertEquals("b", map.get(b));
+	}
+
+	@Test
+	void conditionalRemoveComparesIdentity() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+		String value = new String("v");
+		map.putIfAbsent(42L, value);
+
+		assertNull(map.remove(42L, new String("v")));
+		assertSame(value, map.remove(42L, value));
+		assertNull(map.get(42L));
+	}
+
+	@Test
+	void rejectsZeroKeyAndNullValue() {
+		ConcurrentLongMap<String> map = new ConcurrentLongMap<>();
+		assertThrows(IllegalArgumentException.class, () -> map.putIfAbsent(0L, "v"));
+		assertThrows(NullPointerException.class, () -> map.putIfAbsent(1L, null));
+		assertNull(map.remove(0L));
+	}
+
+	@Test
+	void matchesHashMapThroughResizesAndDeletes() {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(2);
+		Map<Long, Long> reference = new HashMap<>();
+		List<Long> keys = new ArrayList<>();
+		Random random = new Random(7);
+
+		for (int op = 0; op < 200_000; op++) {
+			if (keys.isEmpty() || random.nextInt(3) != 0) {
+				long key = random.nextInt(20_000) + 1L;
+				Long expected = reference.putIfAbsent(key, key * 31);
+				assertEquals(expected, map.putIfAbsent(key, key * 31));
+				if (expected == null) {
+					keys.add(key);
+				}
+			} else {
+				long key = keys.remove(random.nextInt(keys.size()));
+				assertEquals(reference.remove(key), map.remove(key));
+			}
+		}
+
+		assertEquals(reference.size(), map.size());
+		for (long key = 1; key <= 20_000; key++) {
+			assertEquals(reference.get(key), map.get(key));
+		}
+	}
+
+	@Test
+	void concurrentWritersAndReaders() throws Exception {
+		ConcurrentLongMap<Long> map = new ConcurrentLongMap<>(4);
+		int threads = 4;
+		int perThread = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				long base = (long) t * perThread + 1;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (long key = base; key < base + perThread; key++) {
+						map.putIfAbsent(key, key);
+						assertEquals(key, map.get(key));
+						if ((key & 1) == 0) {
+							assertEquals(key, map.remove(key));
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(threads * perThread / 2, map.size());
+		for (long key = 1; key <= (long) threads * perThread; key++) {
+			assertEquals((key & 1) == 0 ? null : key, map.get(key));
+		}
+	}
+
+	/**
+	 * 초기 크기 세그먼트에서 주어진 칸을 시작 위치로 갖는 키 (from 이상에서 탐색)
+	 */
+	private static long keyWithHome(int home, long from) {
+		for (long key = from; ; key++) {
+			if (((int) mix(key) & (CAPACITY - 1)) == home) {
+				return key;
+			}
+		}
+	}
+
+	// ConcurrentLongMap과 같은 해시 (MurmurHash3 fmix64)
+	private static long mix(long key) {
+		long h = key;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.couple.numberbaseball.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 시계 (advance로만 시간이 흐름)
+ */
+public class ManualClock implements GameClock {
+
+    private volatile long nanos;
+    private final long startMillis;
+
+    public ManualClock(long startMillis) {
+        this.startMillis = startMillis;
+    }
+
+    public void advance(long amount, TimeUnit unit) {
+        nanos += unit.toNanos(amount);
+    }
+
+    @Override
+    public long millis() {
+        return startMillis + TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    @Override
+    public long nanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,80 @@
+package com.couple.numberbaseball.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomCodeAllocatorTests {
+
+	private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+	private final ManualClock clock = new ManualClock(1_000_000L);
+
+	@Test
+	void permutationYieldsDistinctCodesOverLargePrefix() {
+		RoomCodeAllocator allocator = new RoomCodeAllocator(TimeUnit.MINUTES.toMillis(10), clock);
+		int count = 2_000_000;
+		long[] values = new long[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = decode(allocator.allocate());
+		}
+
+		Arrays.sort(values);
+		for (int i = 1; i < count; i++) {
+			assertNotEquals(values[i - 1], values[i], "duplicate code at counter prefix");
+		}
+	}
+
+	@Test
+	void releasedCodeIsQuarantinedUntilItExpires() {
+		RoomCodeAllocator allocator = new RoomCodeAllocator(TimeUnit.MINUTES.toMillis(10), clock);
+		String released = allocator.allocate();
+		allocator.release(released);
+		assertEquals(1, allocator.getQuarantinedCount());
+
+		clock.advance(TimeUnit.MINUTES.toMillis(10) - 1, TimeUnit.MILLISECONDS);
+		for (int i = 0; i < 1_000; i++) {
+			assertNotEquals(released, allocator.allocate());
+		}
+		assertEquals(0, allocator.getReusedCount());
+
+		clock.advance(1, TimeUnit.MILLISECONDS);
+		assertEquals(released, allocator.allocate());
+		assertEquals(1, allocator.getReusedCount());
+		assertEquals(0, allocator.getQuarantinedCount());
+	}
+
+	@Test
+	void releasedCodesAreReusedInReleaseOrder() {
+		RoomCodeAllocator allocator = new RoomCodeAllocator(1_000, clock);
+		String first = allocator.allocate();
+		String second = allocator.allocate();
+		allocator.release(first);
+		clock.advance(500, TimeUnit.MILLISECONDS);
+		allocator.release(second);
+
+		clock.advance(500, TimeUnit.MILLISECONDS);
+		assertEquals(first, allocator.allocate());
+		assertNotEquals(second, allocator.allocate()); // 아직 격리 중
+
+		clock.advance(500, TimeUnit.MILLISECONDS);
+		assertEquals(second, allocator.allocate());
+	}
+
+	private static long decode(String code) {
+		assertEquals(RoomCodeAllocator.CODE_LENGTH, code.length());
+		long value = 0;
+		for (int i = 0; i < code.length(); i++) {
+			int digit = ALPHABET.indexOf(code.charAt(i));
+			assertTrue(digit >= 0, code);
+			value = value * 36 + digit;
+		}
+		return value;
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.couple.numberbaseball.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTests {
+
+	// 틱 10ms x 8칸 = 한 바퀴 80ms
+	private final TimingWheel<String> wheel = new TimingWheel<>(10, 8, 1_000);
+	private final List<String> expired = new ArrayList<>();
+
+	@Test
+	void expiresAtDeadline() {
+		wheel.schedule("a", 1_035);
+		wheel.schedule("b", 1_050);
+
+		advanceTo(1_034);
+		assertTrue(expired.isEmpty());
+
+		advanceTo(1_040);
+		assertEquals(List.of("a"), expired);
+		assertEquals(1, wheel.size()); // b만 남음
+
+		advanceTo(1_050);
+		assertEquals(List.of("a", "b"), expired);
+		assertEquals(0, wheel.size());
+	}
+
+	@Test
+	void cancelledTimerNeverFires() {
+		wheel.schedule("a", 1_020);
+		assertTrue(wheel.cancel("a"));
+		assertFalse(wheel.cancel("a"));
+
+		advanceTo(1_200);
+		assertTrue(expired.isEmpty());
+	}
+
+	@Test
+	void rescheduleReplacesDeadline() {
+		wheel.schedule("later", 1_020);
+		wheel.schedule("later", 1_060);
+		wheel.schedule("sooner", 1_060);
+		wheel.schedule("sooner", 1_020);
+		assertEquals(2, wheel.size());
+
+		advanceTo(1_030);
+		assertEquals(List.of("sooner"), expired);
+
+		advanceTo(1_060);
+		assertEquals(List.of("sooner", "later"), expired);
+	}
+
+	@Test
+	void deadlineBeyondOneRotationWaitsForItsTime() {
+		wheel.schedule("far", 1_250); // 3바퀴 이상 뒤, 같은 버킷을 여러 번 지나침
+
+		for (long now = 1_000; now < 1_250; now += 10) {
+			advanceTo(now);
+		}
+		assertTrue(expired.isEmpty());
+		assertEquals(1, wheel.size());
+
+		advanceTo(1_250);
+		assertEquals(List.of("far"), expired);
+	}
+
+	@Test
+	void longGapBetweenAdvancesExpiresEverythingOnce() {
+		wheel.schedule("a", 1_015);
+		wheel.schedule("b", 1_150);
+		wheel.schedule("c", 1_900);
+
+		advanceTo(2_000); // 여러 바퀴를 한 번에 건너뜀
+		assertEquals(3, expired.size());
+		assertTrue(expired.containsAll(List.of("a", "b", "c")));
+
+		advanceTo(2_100);
+		assertEquals(3, expired.size());
+	}
+
+	@Test
+	void pastDeadlineFiresOnNextTick() {
+		advanceTo(1_100);
+		wheel.schedule("late", 1_050);
+
+		advanceTo(1_100);
+		assertTrue(expired.isEmpty());
+
+		advanceTo(1_110);
+		assertEquals(List.of("late"), expired);
+	}
+
+	@Test
+	void callbackMayReschedule() {
+		wheel.schedule("a", 1_020);
+		wheel.advance(1_020, key -> wheel.schedule(key, 1_300));
+		assertEquals(1, wheel.size());
+
+		advanceTo(1_299);
+		assertTrue(expired.isEmpty());
+		advanceTo(1_300);
+		assertEquals(List.of("a"), expired);
+	}
+
+	private void advanceTo(long nowMillis) {
+		wheel.advance(nowMillis, expired::add);
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.couple.numberbaseball.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTests {
+
+	private final ManualClock clock = new ManualClock(0);
+
+	@Test
+	void fullBucketAllowsExactlyBurst() {
+		TokenBucket bucket = new TokenBucket(5, 10, clock.nanos());
+		for (int i = 0; i < 10; i++) {
+			assertTrue(bucket.tryAcquire(clock.nanos()), "frame " + i);
+		}
+		assertFalse(bucket.tryAcquire(clock.nanos()));
+	}
+
+	@Test
+	void refillsOneTokenPerInterval() {
+		TokenBucket bucket = new TokenBucket(5, 10, clock.nanos());
+		drain(bucket);
+
+		// 5/s -> 200ms마다 한 개
+		clock.advance(199, TimeUnit.MILLISECONDS);
+		assertFalse(bucket.tryAcquire(clock.nanos()));
+		clock.advance(1, TimeUnit.MILLISECONDS);
+		assertTrue(bucket.tryAcquire(clock.nanos()));
+		assertFalse(bucket.tryAcquire(clock.nanos()));
+
+		// 아무리 오래 쉬어도 burst 개까지만 쌓임
+		clock.advance(1, TimeUnit.HOURS);
+		for (int i = 0; i < 10; i++) {
+			assertTrue(bucket.tryAcquire(clock.nanos()));
+		}
+		assertFalse(bucket.tryAcquire(clock.nanos()));
+	}
+
+	@Test
+	void steadyRateIsNeverThrottled() {
+		TokenBucket bucket = new TokenBucket(5, 1, clock.nanos());
+		for (int i = 0; i < 1_000; i++) {
+			assertTrue(bucket.tryAcquire(clock.nanos()));
+			clock.advance(200, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Test
+	void becomesIdleOnlyAfterRefilledAndUnused() {
+		long idleNanos = TimeUnit.MINUTES.toNanos(1);
+		TokenBucket bucket = new TokenBucket(5, 10, clock.nanos());
+		drain(bucket);
+
+		// 다 채워지는 데 2초, 그 뒤로 1분 동안 쓰지 않아야 유휴
+		clock.advance(1, TimeUnit.MINUTES);
+		assertFalse(bucket.isIdle(clock.nanos(), idleNanos));
+		clock.advance(2, TimeUnit.SECONDS);
+		assertTrue(bucket.isIdle(clock.nanos(), idleNanos));
+
+		assertTrue(bucket.tryAcquire(clock.nanos()));
+		assertFalse(bucket.isIdle(clock.nanos(), idleNanos));
+	}
+
+	@Test
+	void rejectsInvalidLimits() {
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 10, 0));
+		assertThrows(IllegalArgumentException.class, () -> new TokenBucket(5, 0, 0));
+	}
+
+	private void drain(TokenBucket bucket) {
+		while (bucket.tryAcquire(clock.nanos())) {
+			// 남은 토큰을 모두 사용
+		}
+	}
+
+}